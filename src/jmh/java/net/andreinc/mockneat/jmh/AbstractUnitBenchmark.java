@@ -0,0 +1,49 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.types.enums.RandomType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared setup for the per-unit benchmarks. Every benchmark thread gets its own {@link MockNeat}: the
+ * SPLITTABLE, XOROSHIRO_128_PP and PCG_32 engines are not thread-safe, so sharing one instance
+ * across -PjmhThreads=N threads would measure data races instead of generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractUnitBenchmark {
+
+    @Param({ "OLD", "SECURE", "THREAD_LOCAL", "SPLITTABLE", "XOROSHIRO_128_PP", "PCG_32" })
+    protected RandomType randomType;
+
+    protected MockNeat mockNeat;
+
+    @Setup
+    public void setupMockNeat() {
+        this.mockNeat = new MockNeat(randomType);
+    }
+}
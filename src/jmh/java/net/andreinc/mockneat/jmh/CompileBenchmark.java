@@ -0,0 +1,91 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.abstraction.MockUnitString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.andreinc.mockneat.types.enums.DictType.FIRST_NAME_MALE_AMERICAN;
+import static net.andreinc.mockneat.types.enums.RandomType.SPLITTABLE;
+import static net.andreinc.mockneat.types.enums.StringType.HEX;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompileBenchmark {
+
+    private MockNeat mockNeat;
+
+    private MockUnitString dicts;
+    private MockUnitString words;
+    private MockUnitString hex;
+
+    private MockUnitString dictsCompiled;
+    private MockUnitString wordsCompiled;
+    private MockUnitString hexCompiled;
+
+    @Setup
+    public void setup() {
+        this.mockNeat = new MockNeat(SPLITTABLE);
+
+        this.dicts = mockNeat.dicts().type(FIRST_NAME_MALE_AMERICAN);
+        this.words = mockNeat.words();
+        this.hex = mockNeat.strings().size(16).type(HEX);
+
+        this.dictsCompiled = dicts.compile();
+        this.wordsCompiled = words.compile();
+        this.hexCompiled = hex.compile();
+    }
+
+    @Benchmark
+    public String dicts() {
+        return dicts.val();
+    }
+
+    @Benchmark
+    public String dictsCompiled() {
+        return dictsCompiled.val();
+    }
+
+    @Benchmark
+    public String words() {
+        return words.val();
+    }
+
+    @Benchmark
+    public String wordsCompiled() {
+        return wordsCompiled.val();
+    }
+
+    @Benchmark
+    public String hex() {
+        return hex.val();
+    }
+
+    @Benchmark
+    public String hexCompiled() {
+        return hexCompiled.val();
+    }
+}
@@ -0,0 +1,159 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+
+// Address, companies, financial, misc, networking, time and user units
+public class DataBenchmark extends AbstractUnitBenchmark {
+
+    @Benchmark
+    public String cities() {
+        return mockNeat.cities().us().val();
+    }
+
+    @Benchmark
+    public String countries() {
+        return mockNeat.countries().names().val();
+    }
+
+    @Benchmark
+    public String usStates() {
+        return mockNeat.usStates().val();
+    }
+
+    @Benchmark
+    public String departments() {
+        return mockNeat.departments().val();
+    }
+
+    @Benchmark
+    public String creditCards() {
+        return mockNeat.creditCards().val();
+    }
+
+    @Benchmark
+    public String cvvs() {
+        return mockNeat.cvvs().val();
+    }
+
+    @Benchmark
+    public String currencies() {
+        return mockNeat.currencies().code().val();
+    }
+
+    @Benchmark
+    public String ibans() {
+        return mockNeat.ibans().val();
+    }
+
+    @Benchmark
+    public String money() {
+        return mockNeat.money().val();
+    }
+
+    @Benchmark
+    public String issns() {
+        return mockNeat.issns().val();
+    }
+
+    @Benchmark
+    public String mimes() {
+        return mockNeat.mimes().val();
+    }
+
+    @Benchmark
+    public String sccs() {
+        return mockNeat.sccs().val();
+    }
+
+    @Benchmark
+    public String domains() {
+        return mockNeat.domains().val();
+    }
+
+    @Benchmark
+    public String ipv4s() {
+        return mockNeat.ipv4s().val();
+    }
+
+    @Benchmark
+    public String ipv6s() {
+        return mockNeat.iPv6s().val();
+    }
+
+    @Benchmark
+    public String macs() {
+        return mockNeat.macs().val();
+    }
+
+    @Benchmark
+    public String urls() {
+        return mockNeat.urls().val();
+    }
+
+    @Benchmark
+    public DayOfWeek days() {
+        return mockNeat.days().val();
+    }
+
+    @Benchmark
+    public Month months() {
+        return mockNeat.months().val();
+    }
+
+    @Benchmark
+    public LocalDate localDates() {
+        return mockNeat.localDates().val();
+    }
+
+    @Benchmark
+    public String emails() {
+        return mockNeat.emails().val();
+    }
+
+    @Benchmark
+    public String genders() {
+        return mockNeat.genders().val();
+    }
+
+    @Benchmark
+    public String names() {
+        return mockNeat.names().val();
+    }
+
+    @Benchmark
+    public String namesFull() {
+        return mockNeat.names().full().val();
+    }
+
+    @Benchmark
+    public String passwords() {
+        return mockNeat.passwords().val();
+    }
+
+    @Benchmark
+    public String users() {
+        return mockNeat.users().val();
+    }
+}
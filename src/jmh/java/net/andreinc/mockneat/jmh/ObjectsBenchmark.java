@@ -0,0 +1,103 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.unit.seq.Seq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class ObjectsBenchmark extends AbstractUnitBenchmark {
+
+    private static final List<String> ALPHABET = asList("a", "b", "c", "d", "e", "f", "g", "h");
+    private static final int[] INTS = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+    @Benchmark
+    public Person constructor() {
+        return mockNeat.constructor(Person.class)
+                       .params(mockNeat.names().first(), mockNeat.ints().range(18, 80))
+                       .val();
+    }
+
+    @Benchmark
+    public Person factory() {
+        return mockNeat.factory(Person.class, Person.class)
+                       .method("create")
+                       .params(mockNeat.names().first(), mockNeat.ints().range(18, 80))
+                       .val();
+    }
+
+    @Benchmark
+    public Person reflect() {
+        return mockNeat.reflect(Person.class)
+                       .field("name", mockNeat.names().first())
+                       .field("age", mockNeat.ints().range(18, 80))
+                       .val();
+    }
+
+    @Benchmark
+    public String probabilities() {
+        return mockNeat.probabilites(String.class)
+                       .add(0.5, "a")
+                       .add(0.3, "b")
+                       .add(0.2, "c")
+                       .val();
+    }
+
+    @Benchmark
+    public int[] shufflers() {
+        return mockNeat.shufflers().arrayInt(INTS).val();
+    }
+
+    @Benchmark
+    public String from() {
+        return mockNeat.from(ALPHABET).val();
+    }
+
+    @Benchmark
+    public String seq(SeqState state) {
+        return state.seq.val();
+    }
+
+    // Seq walks a plain iterator, so every benchmark thread gets its own
+    @State(Scope.Thread)
+    public static class SeqState {
+        private final Seq<String> seq = Seq.fromIterable(ALPHABET).cycle(true);
+    }
+
+    public static class Person {
+        private String name;
+        private Integer age;
+
+        public Person() {}
+
+        public Person(String name, Integer age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public static Person create(String name, Integer age) {
+            return new Person(name, age);
+        }
+    }
+}
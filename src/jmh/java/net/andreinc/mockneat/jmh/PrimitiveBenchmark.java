@@ -0,0 +1,89 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.abstraction.MockUnitDouble;
+import net.andreinc.mockneat.abstraction.MockUnitInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static net.andreinc.mockneat.types.enums.RandomType.SPLITTABLE;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private MockUnitInt ints;
+    private MockUnitInt pipeline;
+    private MockUnitDouble doubles;
+    private IntSupplier intSupplier;
+
+    @Setup
+    public void setup() {
+        MockNeat mockNeat = new MockNeat(SPLITTABLE);
+        this.ints = mockNeat.ints().range(0, 1_000_000);
+        this.pipeline = ints.filterInt(i -> (i & 1) == 0).mapInt(i -> i >> 1);
+        this.doubles = mockNeat.doubles().range(0.0, 1.0);
+        this.intSupplier = ints.intSupplier();
+    }
+
+    @Benchmark
+    public Integer intsVal() {
+        return ints.val();
+    }
+
+    @Benchmark
+    public int intSupplier() {
+        return intSupplier.getAsInt();
+    }
+
+    @Benchmark
+    public int[] intsArrayPrimitive() {
+        return ints.arrayPrimitive(SIZE).val();
+    }
+
+    @Benchmark
+    public double[] doublesArrayPrimitive() {
+        return doubles.arrayPrimitive(SIZE).val();
+    }
+
+    @Benchmark
+    public long intStreamSum() {
+        return ints.intStream().val().limit(SIZE).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long filterMapSum() {
+        IntSupplier supp = pipeline.intSupplier();
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += supp.getAsInt();
+        }
+        return sum;
+    }
+}
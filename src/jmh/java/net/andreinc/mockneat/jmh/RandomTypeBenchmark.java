@@ -0,0 +1,72 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.types.enums.RandomType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomTypeBenchmark {
+
+    @Param({ "OLD", "SECURE", "THREAD_LOCAL", "SPLITTABLE", "XOROSHIRO_128_PP", "PCG_32" })
+    private RandomType randomType;
+
+    private Random random;
+    private MockNeat mockNeat;
+
+    @Setup
+    public void setup() {
+        this.mockNeat = new MockNeat(randomType);
+        this.random = mockNeat.getRandom();
+    }
+
+    @Benchmark
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Benchmark
+    public int nextIntBound() {
+        return random.nextInt(1000);
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Benchmark
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Benchmark
+    public Integer intsVal() {
+        return mockNeat.ints().val();
+    }
+}
@@ -0,0 +1,58 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.abstraction.MockUnitString;
+import net.andreinc.mockneat.types.enums.StringType;
+import net.andreinc.mockneat.unit.text.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class StringsBenchmark extends AbstractUnitBenchmark {
+
+    @Param({ "NUMBERS", "ALPHA_NUMERIC", "LETTERS", "HEX", "SPECIAL_CHARACTERS" })
+    private StringType type;
+
+    @Param({ "32" })
+    private int size;
+
+    private MockUnitString strings;
+    private Strings raw;
+    private char[] buffer;
+
+    @Setup
+    public void setup() {
+        this.raw = mockNeat.strings();
+        this.strings = mockNeat.strings().size(size).type(type);
+        this.buffer = new char[size];
+    }
+
+    @Benchmark
+    public String val() {
+        return strings.val();
+    }
+
+    @Benchmark
+    public char[] fill() {
+        raw.fill(type, buffer);
+        return buffer;
+    }
+}
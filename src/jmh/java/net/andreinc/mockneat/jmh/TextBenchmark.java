@@ -0,0 +1,98 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.abstraction.MockUnitString;
+import net.andreinc.mockneat.unit.text.Formatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Arrays.asList;
+import static net.andreinc.mockneat.types.enums.DictType.FIRST_NAME_MALE_AMERICAN;
+
+// naughtyStrings() is not covered: its dictionaries cannot be resolved from the classpath
+public class TextBenchmark extends AbstractUnitBenchmark {
+
+    private Path file;
+    private MockUnitString files;
+    private MockUnitString markovs;
+    private Formatter fmt;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("mockneat-jmh", ".txt");
+        Files.write(file, asList("alpha", "beta", "gamma", "delta", "epsilon"));
+        this.files = mockNeat.files().from(file.toString());
+        this.markovs = mockNeat.markovs().size(256);
+        this.fmt = mockNeat.fmt("#{first} #{last} <#{email}>")
+                           .param("first", mockNeat.names().first())
+                           .param("last", mockNeat.names().last())
+                           .param("email", mockNeat.emails());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String dicts() {
+        return mockNeat.dicts().type(FIRST_NAME_MALE_AMERICAN).val();
+    }
+
+    @Benchmark
+    public String files() {
+        return files.val();
+    }
+
+    @Benchmark
+    public String fmt() {
+        return fmt.val();
+    }
+
+    @Benchmark
+    public String markovs() {
+        return markovs.val();
+    }
+
+    @Benchmark
+    public String regex() {
+        return mockNeat.regex("[a-z]{5}-[0-9]{3}").val();
+    }
+
+    @Benchmark
+    public String words() {
+        return mockNeat.words().val();
+    }
+
+    @Benchmark
+    public String hashes() {
+        return mockNeat.hashes().sha256().val();
+    }
+
+    @Benchmark
+    public String uuids() {
+        return mockNeat.uuids().val();
+    }
+}
@@ -0,0 +1,86 @@
+package net.andreinc.mockneat.jmh;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.unit.seq.IntSeq;
+import net.andreinc.mockneat.unit.seq.LongSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class TypesBenchmark extends AbstractUnitBenchmark {
+
+    private IntSeq intSeq;
+    private LongSeq longSeq;
+
+    @Setup
+    public void setup() {
+        this.intSeq = mockNeat.intSeq();
+        this.longSeq = mockNeat.longSeq();
+    }
+
+    @Benchmark
+    public Boolean bools() {
+        return mockNeat.bools().val();
+    }
+
+    @Benchmark
+    public Character chars() {
+        return mockNeat.chars().val();
+    }
+
+    @Benchmark
+    public Integer ints() {
+        return mockNeat.ints().val();
+    }
+
+    @Benchmark
+    public Integer intsRange() {
+        return mockNeat.ints().range(10, 1000).val();
+    }
+
+    @Benchmark
+    public Long longs() {
+        return mockNeat.longs().val();
+    }
+
+    @Benchmark
+    public Double doubles() {
+        return mockNeat.doubles().val();
+    }
+
+    @Benchmark
+    public Float floats() {
+        return mockNeat.floats().val();
+    }
+
+    @Benchmark
+    public String strings() {
+        return mockNeat.strings().val();
+    }
+
+    @Benchmark
+    public Integer intSeq() {
+        return intSeq.val();
+    }
+
+    @Benchmark
+    public Long longSeq() {
+        return longSeq.val();
+    }
+}
@@ -18,6 +18,9 @@ package net.andreinc.mockneat;
  */
 
 import net.andreinc.mockneat.abstraction.*;
+import net.andreinc.mockneat.random.RandomEngine;
+import net.andreinc.mockneat.random.Splittable;
+import net.andreinc.mockneat.types.AliasTable;
 import net.andreinc.mockneat.types.enums.DictType;
 import net.andreinc.mockneat.types.enums.RandomType;
 import net.andreinc.mockneat.unit.address.Cities;
@@ -42,6 +45,7 @@ import net.andreinc.mockneat.unit.time.LocalDates;
 import net.andreinc.mockneat.unit.time.Months;
 import net.andreinc.mockneat.unit.types.*;
 import net.andreinc.mockneat.unit.user.*;
+import net.andreinc.mockneat.utils.MapSnapshot;
 import net.andreinc.mockneat.utils.ValidationUtils;
 
 import java.util.List;
@@ -49,6 +53,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.function.Supplier;
 
+import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
 import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 import static org.apache.commons.lang3.Validate.notEmpty;
 
@@ -59,6 +64,7 @@ public class MockNeat {
     private static final MockNeat SECURE = new MockNeat(RandomType.SECURE);
     private static final MockNeat OLD = new MockNeat(RandomType.OLD);
 
+    private final RandomEngine randomEngine;
     private final Random random;
 
     private final Bools rBools;
@@ -101,7 +107,24 @@ public class MockNeat {
     private final Words rWords;
 
     public MockNeat(RandomType randomTypeType) {
-        this.random = randomTypeType.getRandom();
+        this((RandomEngine) randomTypeType);
+    }
+
+    public MockNeat(RandomEngine randomEngine) {
+        this(randomEngine, notNull(randomEngine, "randomEngine").random());
+    }
+
+    public MockNeat(RandomType randomTypeType, Long seed) {
+        this((RandomEngine) randomTypeType, seed);
+    }
+
+    public MockNeat(RandomEngine randomEngine, Long seed) {
+        this(randomEngine, notNull(randomEngine, "randomEngine").random(notNull(seed, "seed")));
+    }
+
+    private MockNeat(RandomEngine randomEngine, Random random) {
+        this.randomEngine = randomEngine;
+        this.random = random;
 
         this.rChars = new Chars(this);
         this.rBools = new Bools(this);
@@ -137,7 +160,7 @@ public class MockNeat {
         this.rPasswords = new Passwords(this);
         this.rShufflers = new Shufflers(this);
         this.rSSCs = new SSCs(this);
-        this.rUUIDs = new UUIDs();
+        this.rUUIDs = new UUIDs(this);
         this.rUsers = new Users(this);
         this.rUsStates = new UsStates(this);
         this.rWords = new Words(this);
@@ -147,11 +170,6 @@ public class MockNeat {
         this(RandomType.THREAD_LOCAL);
     }
 
-    public MockNeat(RandomType randomTypeType, Long seed) {
-        this(randomTypeType);
-        random.setSeed(seed);
-    }
-
     public static MockNeat threadLocal() { return THREAD_LOCAL; }
     public static MockNeat secure() { return SECURE; }
     public static MockNeat old() { return OLD; }
@@ -240,10 +258,24 @@ public class MockNeat {
 
     public Passwords passwords() { return this.rPasswords; }
 
-    public Regex regex(String regex) { return new Regex(regex); }
+    public Regex regex(String regex) { return new Regex(this, regex); }
 
     public <T> Probabilities<T> probabilites(Class<T> cls) { return new Probabilities<T>(this, cls); }
 
+    public <T> MockUnit<T> weighted(Map<T, Double> weights) {
+        notEmpty(weights, ValidationUtils.INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "weights");
+        T[] values = (T[]) new Object[weights.size()];
+        double[] w = new double[weights.size()];
+        int i = 0;
+        for (Map.Entry<T, Double> entry : weights.entrySet()) {
+            values[i] = entry.getKey();
+            w[i++] = notNull(entry.getValue(), "weights[" + entry.getKey() + "]");
+        }
+        AliasTable table = new AliasTable(w);
+        Supplier<T> supp = () -> values[table.next(getRandom())];
+        return () -> supp;
+    }
+
     public <T> Reflect<T> reflect(Class<T> cls) { return new Reflect<>(this, cls);}
 
     public <T> Seq<T> seq(Iterable<T> iterable) { return Seq.fromIterable(iterable); }
@@ -270,6 +302,29 @@ public class MockNeat {
         return random;
     }
 
+    /**
+     * Derives a new MockNeat instance from the current one. For seeded instances the children are deterministic:
+     * the n-th child of two instances created with the same seed generates the same values.
+     *
+     * Splitting changes the state of the current instance, so it should be done from a single thread,
+     * before the children are handed to the worker threads.
+     */
+    public MockNeat split() {
+        if (random instanceof Splittable) {
+            return new MockNeat(randomEngine, ((Splittable) random).split());
+        }
+        return new MockNeat(randomEngine, randomEngine.random(random.nextLong()));
+    }
+
+    public MockNeat[] split(int n) {
+        isTrue(n>0, ValidationUtils.SIZE_BIGGER_THAN_ZERO_STRICT);
+        MockNeat[] children = new MockNeat[n];
+        for (int i = 0; i < n; i++) {
+            children[i] = split();
+        }
+        return children;
+    }
+
     public <T> MockUnit<T> from(List<T> alphabet) {
         notEmpty(alphabet, "alphabet");
         Supplier<T> supp = () -> {
@@ -296,98 +351,102 @@ public class MockNeat {
 
     public <T> MockUnit<T> fromKeys(Map<T, ?> map) {
         notEmpty(map, ValidationUtils.INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "map");
-        Supplier<T> supp = () -> {
-            T[] keys = (T[]) map.keySet().toArray();
-            int idx = getRandom().nextInt(keys.length);
-            return keys[idx];
-        };
-        return () -> supp;
+        return from((T[]) map.keySet().toArray());
     }
 
     public <T> MockUnit<T> fromValues(Map<?, T> map) {
         notEmpty(map, ValidationUtils.INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "map");
-        Supplier<T> supp = () -> {
-            T[] values = (T[]) map.values().toArray();
-            int idx = getRandom().nextInt(values.length);
-            return values[idx];
-        };
+        return from((T[]) map.values().toArray());
+    }
+
+    public <T> MockUnit<T> fromKeysLive(Map<T, ?> map) {
+        notEmpty(map, ValidationUtils.INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "map");
+        MapSnapshot<T, ?> snapshot = new MapSnapshot<>(map);
+        Supplier<T> supp = () -> snapshot.randomKey(getRandom());
+        return () -> supp;
+    }
+
+    public <T> MockUnit<T> fromValuesLive(Map<?, T> map) {
+        notEmpty(map, ValidationUtils.INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "map");
+        MapSnapshot<?, T> snapshot = new MapSnapshot<>(map);
+        Supplier<T> supp = () -> snapshot.randomValue(getRandom());
         return () -> supp;
     }
 
     public MockUnitInt fromInts(Integer[] alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitInt fromInts(int[] alphabet) {
-        return () -> this.ints().from(alphabet)::val;
+        return this.ints().from(alphabet)::supplier;
     }
 
     public MockUnitInt fromInts(List<Integer> alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitInt fromIntsValues(Map<?, Integer> map) {
-        return () -> fromValues(map)::val;
+        return fromValues(map)::supplier;
     }
 
     public MockUnitInt fromIntsKeys(Map<Integer, ?> map) {
-        return () -> fromKeys(map)::val;
+        return fromKeys(map)::supplier;
     }
 
     public MockUnitDouble fromDoubles(Double[] alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitDouble fromDoubles(double[] alphabet) {
-        return () -> this.doubles().from(alphabet)::val;
+        return this.doubles().from(alphabet)::supplier;
     }
 
     public MockUnitDouble fromDoubles(List<Double> alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitDouble fromDoublesValues(Map<?, Double> map) {
-        return () -> fromValues(map)::val;
+        return fromValues(map)::supplier;
     }
 
     public MockUnitDouble fromDoublesKeys(Map<Double, ?> map) {
-        return () -> fromKeys(map)::val;
+        return fromKeys(map)::supplier;
     }
 
     public MockUnitLong fromLongs(Long[] alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitLong fromLongs(long[] alphabet) {
-        return () -> this.longs().from(alphabet)::val;
+        return this.longs().from(alphabet)::supplier;
     }
 
     public MockUnitLong fromLongs(List<Long> alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitLong fromLongsValues(Map<?, Long> map) {
-        return () -> fromValues(map)::val;
+        return fromValues(map)::supplier;
     }
 
     public MockUnitLong fromLongsKeys(Map<Long, ?> map) {
-        return () -> fromKeys(map)::val;
+        return fromKeys(map)::supplier;
     }
 
     public MockUnitString fromStrings(String[] alphabet) {
-        return () ->  () -> from(alphabet).val();
+        return from(alphabet)::supplier;
     }
 
     public MockUnitString fromStrings(List<String> alphabet) {
-        return () -> from(alphabet)::val;
+        return from(alphabet)::supplier;
     }
 
     public MockUnitString fromStringsValues(Map<?, String> map) {
-        return () -> fromValues(map)::val;
+        return fromValues(map)::supplier;
     }
 
     public MockUnitString fromStringsKeys(Map<String, ?> map) {
-        return () -> fromKeys(map)::val;
+        return fromKeys(map)::supplier;
     }
 
 }
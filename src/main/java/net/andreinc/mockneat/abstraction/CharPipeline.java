@@ -0,0 +1,230 @@
+package net.andreinc.mockneat.abstraction;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+import static net.andreinc.mockneat.utils.MockUnitUtils.ifSupplierNotNullDo;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
+
+/**
+ * A {@link MockUnitString} that fuses consecutive char-level operations.
+ *
+ * The operations are composed into a single char function. The built-in operations (case changes,
+ * {@link #replace(char, char)}, {@link #noSpecialChars()}) are pure, so as long as the pipeline only uses them the
+ * function is precomputed for the ASCII range and the prepended and appended strings are transformed when the
+ * pipeline is built. The functions given to {@link #mapChars(IntUnaryOperator)} and {@link #filter(IntPredicate)}
+ * are not assumed to be pure: they are called for every char of every value, prefix and suffix included.
+ * Every value is copied once into a per-thread buffer: prefix, the transformed chars of the source value, suffix.
+ *
+ * Case changes are done char by char ({@link Character#toUpperCase(int)}), so unlike
+ * {@link net.andreinc.mockneat.types.enums.StringFormatType} they never change the length of the value.
+ */
+public final class CharPipeline implements MockUnitString {
+
+    // Larger buffers are not kept around
+    private static final int MAX_BUFFER = 8192;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+    // Returned by 'op' for the chars that are removed
+    private static final int DROP = -1;
+
+    private final MockUnitString source;
+    // A constant prefix (suffix), or a function rendering it for every value once a non-pure operation follows it
+    private final String prefix;
+    private final Supplier<String> prefixFn;
+    private final String suffix;
+    private final Supplier<String> suffixFn;
+    // null when there's no char operation
+    private final IntUnaryOperator op;
+    // true when 'op' only composes pure operations
+    private final boolean pure;
+    // 'op' evaluated in advance for the ASCII chars, only when it's pure
+    private final int[] ascii;
+
+    private CharPipeline(MockUnitString source,
+                         String prefix, Supplier<String> prefixFn,
+                         String suffix, Supplier<String> suffixFn,
+                         IntUnaryOperator op, boolean pure) {
+        this.source = source;
+        this.prefix = prefix;
+        this.prefixFn = prefixFn;
+        this.suffix = suffix;
+        this.suffixFn = suffixFn;
+        this.op = op;
+        this.pure = pure;
+        this.ascii = (op == null || !pure) ? null : new int[128];
+        if (ascii != null) {
+            for (int c = 0; c < ascii.length; c++) {
+                ascii[c] = op.applyAsInt(c);
+            }
+        }
+    }
+
+    public static CharPipeline of(MockUnitString source) {
+        notNull(source, "source");
+        return new CharPipeline(source, "", null, "", null, null, true);
+    }
+
+    public CharPipeline upperCase() {
+        return then(Character::toUpperCase, true);
+    }
+
+    public CharPipeline lowerCase() {
+        return then(Character::toLowerCase, true);
+    }
+
+    public CharPipeline mapChars(IntUnaryOperator function) {
+        notNull(function, "function");
+        return then(c -> function.applyAsInt(c) & 0xFFFF, false);
+    }
+
+    public CharPipeline filter(IntPredicate predicate) {
+        notNull(predicate, "predicate");
+        return then(c -> predicate.test(c) ? c : DROP, false);
+    }
+
+    @Override
+    public CharPipeline replace(char oldChar, char newChar) {
+        return then(c -> c == oldChar ? newChar : c, true);
+    }
+
+    @Override
+    public CharPipeline noSpecialChars() {
+        return then(c -> isNotSpecial(c) ? c : DROP, true);
+    }
+
+    @Override
+    public CharPipeline prepend(String str) {
+        notNull(str, "str");
+        if (prefixFn == null) {
+            return new CharPipeline(source, str.concat(prefix), null, suffix, suffixFn, op, pure);
+        }
+        Supplier<String> current = prefixFn;
+        return new CharPipeline(source, null, () -> str.concat(current.get()), suffix, suffixFn, op, pure);
+    }
+
+    @Override
+    public CharPipeline append(String str) {
+        notNull(str, "str");
+        if (suffixFn == null) {
+            return new CharPipeline(source, prefix, prefixFn, suffix.concat(str), null, op, pure);
+        }
+        Supplier<String> current = suffixFn;
+        return new CharPipeline(source, prefix, prefixFn, null, () -> current.get().concat(str), op, pure);
+    }
+
+    @Override
+    public Supplier<String> supplier() {
+        return ifSupplierNotNullDo(source.supplier(), this::apply);
+    }
+
+    // 'pure' operations only depend on their input, so they can be evaluated in advance
+    private CharPipeline then(IntUnaryOperator next, boolean pure) {
+        IntUnaryOperator prev = op;
+        IntUnaryOperator composed = (prev == null) ? next : c -> {
+            int r = prev.applyAsInt(c);
+            return r == DROP ? DROP : next.applyAsInt(r);
+        };
+        boolean composedPure = pure && this.pure;
+        Supplier<String> pre = (pure && prefixFn == null) ? null : renderer(prefix, prefixFn, next);
+        Supplier<String> suf = (pure && suffixFn == null) ? null : renderer(suffix, suffixFn, next);
+        return new CharPipeline(source,
+                                pre == null ? transform(prefix, next) : null, pre,
+                                suf == null ? transform(suffix, next) : null, suf,
+                                composed, composedPure);
+    }
+
+    private static Supplier<String> renderer(String constant, Supplier<String> fn, IntUnaryOperator next) {
+        if (fn == null) {
+            return () -> transform(constant, next);
+        }
+        return () -> transform(fn.get(), next);
+    }
+
+    private String apply(String str) {
+        String pre = (prefixFn == null) ? prefix : prefixFn.get();
+        String suf = (suffixFn == null) ? suffix : suffixFn.get();
+        int length = pre.length() + str.length() + suf.length();
+        char[] buff = BUFFER.get();
+        if (buff.length < length) {
+            buff = new char[length];
+            if (length <= MAX_BUFFER) {
+                BUFFER.set(buff);
+            }
+        }
+
+        pre.getChars(0, pre.length(), buff, 0);
+        int n = pre.length();
+        if (op == null) {
+            str.getChars(0, str.length(), buff, n);
+            n += str.length();
+        } else {
+            for (int i = 0; i < str.length(); i++) {
+                char ch = str.charAt(i);
+                int c = (ch < 128 && ascii != null) ? ascii[ch] : op.applyAsInt(ch);
+                if (c != DROP) {
+                    buff[n++] = (char) c;
+                }
+            }
+        }
+        suf.getChars(0, suf.length(), buff, n);
+        n += suf.length();
+
+        return new String(buff, 0, n);
+    }
+
+    private static String transform(String str, IntUnaryOperator function) {
+        StringBuilder buff = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); i++) {
+            int c = function.applyAsInt(str.charAt(i));
+            if (c != DROP) {
+                buff.append((char) c);
+            }
+        }
+        return buff.toString();
+    }
+
+    private static boolean isNotSpecial(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == ' ';
+    }
+
+    // Same as replaceAll("[^\\dA-Za-z ]", ""), without the regex
+    static String removeSpecialChars(String str) {
+        int i = 0;
+        while (i < str.length() && isNotSpecial(str.charAt(i))) {
+            i++;
+        }
+        if (i == str.length()) {
+            return str;
+        }
+        StringBuilder buff = new StringBuilder(str.length());
+        buff.append(str, 0, i);
+        for (; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (isNotSpecial(c)) {
+                buff.append(c);
+            }
+        }
+        return buff.toString();
+    }
+}
@@ -47,6 +47,15 @@ public interface MockUnit<T> {
 
     default T val() { return supplier().get(); }
 
+    /**
+     * Resolves {@link #supplier()} once and returns a unit that reuses the resulting {@link Supplier}
+     * for every value, instead of rebuilding the supplier chain on each {@link #val()}.
+     */
+    default MockUnit<T> compile() {
+        Supplier<T> supp = supplier();
+        return () -> supp;
+    }
+
     default void serialize(String strPath) {
         T object = supplier().get();
 
@@ -20,6 +20,7 @@ package net.andreinc.mockneat.abstraction;
 import java.time.DayOfWeek;
 import java.time.format.TextStyle;
 import java.util.Locale;
+import java.util.function.Supplier;
 
 import static java.time.format.TextStyle.FULL;
 import static net.andreinc.mockneat.utils.MockUnitUtils.ifSupplierNotNullDo;
@@ -27,6 +28,12 @@ import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitDays extends MockUnit<DayOfWeek> {
 
+    @Override
+    default MockUnitDays compile() {
+        Supplier<DayOfWeek> supp = supplier();
+        return () -> supp;
+    }
+
     default MockUnitString display(TextStyle textStyle, Locale locale) {
         notNull(textStyle, "textStyle");
         notNull(locale, "locale");
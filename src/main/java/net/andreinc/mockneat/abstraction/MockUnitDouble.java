@@ -20,23 +20,92 @@ package net.andreinc.mockneat.abstraction;
 
 import net.andreinc.mockneat.utils.ValidationUtils;
 
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.DoubleStream;
 
 import static java.util.stream.IntStream.range;
 import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitDouble extends MockUnit<Double> {
 
+    static MockUnitDouble doubleUnit(DoubleSupplier doubleSupplier) {
+        notNull(doubleSupplier, "doubleSupplier");
+        Supplier<Double> supp = doubleSupplier::getAsDouble;
+        return new MockUnitDouble() {
+            @Override
+            public Supplier<Double> supplier() {
+                return supp;
+            }
+
+            @Override
+            public DoubleSupplier doubleSupplier() {
+                return doubleSupplier;
+            }
+        };
+    }
+
+    default DoubleSupplier doubleSupplier() {
+        Supplier<Double> supp = supplier();
+        return supp::get;
+    }
+
+    @Override
+    default MockUnitDouble compile() {
+        return doubleUnit(doubleSupplier());
+    }
+
+    default MockUnitDouble mapDouble(DoubleUnaryOperator function) {
+        notNull(function, "function");
+        return derivedDouble(source -> () -> function.applyAsDouble(source.getAsDouble()));
+    }
+
+    default MockUnitDouble filterDouble(DoublePredicate predicate) {
+        notNull(predicate, "predicate");
+        return derivedDouble(source -> () -> {
+            double val;
+            do {
+                val = source.getAsDouble();
+            } while (!predicate.test(val));
+            return val;
+        });
+    }
+
+    /**
+     * The source is resolved every time the derived unit hands out a supplier, not when the operator is
+     * applied, so later changes to this unit are still seen. Bulk methods resolve it once per call.
+     */
+    default MockUnitDouble derivedDouble(UnaryOperator<DoubleSupplier> operator) {
+        return new MockUnitDouble() {
+            @Override
+            public DoubleSupplier doubleSupplier() {
+                return operator.apply(MockUnitDouble.this.doubleSupplier());
+            }
+
+            @Override
+            public Supplier<Double> supplier() {
+                DoubleSupplier supp = doubleSupplier();
+                return supp::getAsDouble;
+            }
+        };
+    }
+
     default MockUnit<DoubleStream> doubleStream() {
-        Supplier<DoubleStream> supp = () -> DoubleStream.generate(supplier()::get);
+        Supplier<DoubleStream> supp = () -> DoubleStream.generate(doubleSupplier());
         return () -> supp;
     }
     default MockUnit<double[]> arrayPrimitive(int size) {
         isTrue(size>=0, ValidationUtils.SIZE_BIGGER_THAN_ZERO);
         Supplier<double[]> supp = () -> {
+            final DoubleSupplier source = doubleSupplier();
             final double[] result = new double[size];
-            range(0, size).forEach(i -> result[i] = val());
+            for (int i = 0; i < size; i++) {
+                result[i] = source.getAsDouble();
+            }
             return result;
         };
         return () -> supp;
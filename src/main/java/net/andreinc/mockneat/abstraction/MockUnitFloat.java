@@ -17,27 +17,101 @@ package net.andreinc.mockneat.abstraction;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.types.FloatPredicate;
+import net.andreinc.mockneat.types.FloatSupplier;
+import net.andreinc.mockneat.types.FloatUnaryOperator;
+
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.DoubleStream;
 
 import static java.util.stream.DoubleStream.generate;
 import static java.util.stream.IntStream.range;
 import static net.andreinc.mockneat.utils.ValidationUtils.SIZE_BIGGER_THAN_ZERO;
 import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 //TODO add it in documentation
 public interface MockUnitFloat extends MockUnit<Float> {
 
+    static MockUnitFloat floatUnit(FloatSupplier floatSupplier) {
+        notNull(floatSupplier, "floatSupplier");
+        Supplier<Float> supp = floatSupplier::getAsFloat;
+        return new MockUnitFloat() {
+            @Override
+            public Supplier<Float> supplier() {
+                return supp;
+            }
+
+            @Override
+            public FloatSupplier floatSupplier() {
+                return floatSupplier;
+            }
+        };
+    }
+
+    // The JDK has no FloatSupplier, so floats use the one from mockneat.types
+    default FloatSupplier floatSupplier() {
+        Supplier<Float> supp = supplier();
+        return supp::get;
+    }
+
+    @Override
+    default MockUnitFloat compile() {
+        return floatUnit(floatSupplier());
+    }
+
+    default MockUnitFloat mapFloat(FloatUnaryOperator function) {
+        notNull(function, "function");
+        return derivedFloat(source -> () -> function.applyAsFloat(source.getAsFloat()));
+    }
+
+    default MockUnitFloat filterFloat(FloatPredicate predicate) {
+        notNull(predicate, "predicate");
+        return derivedFloat(source -> () -> {
+            float val;
+            do {
+                val = source.getAsFloat();
+            } while (!predicate.test(val));
+            return val;
+        });
+    }
+
+    /**
+     * The source is resolved every time the derived unit hands out a supplier, not when the operator is
+     * applied, so later changes to this unit are still seen. Bulk methods resolve it once per call.
+     */
+    default MockUnitFloat derivedFloat(UnaryOperator<FloatSupplier> operator) {
+        return new MockUnitFloat() {
+            @Override
+            public FloatSupplier floatSupplier() {
+                return operator.apply(MockUnitFloat.this.floatSupplier());
+            }
+
+            @Override
+            public Supplier<Float> supplier() {
+                FloatSupplier supp = floatSupplier();
+                return supp::getAsFloat;
+            }
+        };
+    }
+
     default MockUnit<DoubleStream> doubleStream() {
-        Supplier<DoubleStream> supp = () -> generate(supplier()::get);
+        Supplier<DoubleStream> supp = () -> {
+            FloatSupplier source = floatSupplier();
+            return generate(source::getAsFloat);
+        };
         return () -> supp;
     }
 
     default MockUnit<float[]> arrayPrimitive(int size) {
         isTrue(size>=0, SIZE_BIGGER_THAN_ZERO);
         Supplier<float[]> supp = () -> {
+            final FloatSupplier source = floatSupplier();
             final float[] result = new float[size];
-            range(0, size).forEach(i -> result[i] = val());
+            for (int i = 0; i < size; i++) {
+                result[i] = source.getAsFloat();
+            }
             return result;
         };
         return () -> supp;
@@ -20,22 +20,96 @@ package net.andreinc.mockneat.abstraction;
 
 import net.andreinc.mockneat.utils.ValidationUtils;
 
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 
 import static java.util.stream.IntStream.range;
 import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitInt extends MockUnit<Integer> {
+
+    static MockUnitInt intUnit(IntSupplier intSupplier) {
+        notNull(intSupplier, "intSupplier");
+        Supplier<Integer> supp = intSupplier::getAsInt;
+        return new MockUnitInt() {
+            @Override
+            public Supplier<Integer> supplier() {
+                return supp;
+            }
+
+            @Override
+            public IntSupplier intSupplier() {
+                return intSupplier;
+            }
+        };
+    }
+
+    /**
+     * Primitive view of {@link #supplier()}. Units created through {@link #intUnit(IntSupplier)} return
+     * their int supplier directly, so values produced through it are never boxed.
+     */
+    default IntSupplier intSupplier() {
+        Supplier<Integer> supp = supplier();
+        return supp::get;
+    }
+
+    @Override
+    default MockUnitInt compile() {
+        return intUnit(intSupplier());
+    }
+
+    default MockUnitInt mapInt(IntUnaryOperator function) {
+        notNull(function, "function");
+        return derivedInt(source -> () -> function.applyAsInt(source.getAsInt()));
+    }
+
+    default MockUnitInt filterInt(IntPredicate predicate) {
+        notNull(predicate, "predicate");
+        return derivedInt(source -> () -> {
+            int val;
+            do {
+                val = source.getAsInt();
+            } while (!predicate.test(val));
+            return val;
+        });
+    }
+
+    /**
+     * The source is resolved every time the derived unit hands out a supplier, not when the operator is
+     * applied, so later changes to this unit are still seen. Bulk methods resolve it once per call.
+     */
+    default MockUnitInt derivedInt(UnaryOperator<IntSupplier> operator) {
+        return new MockUnitInt() {
+            @Override
+            public IntSupplier intSupplier() {
+                return operator.apply(MockUnitInt.this.intSupplier());
+            }
+
+            @Override
+            public Supplier<Integer> supplier() {
+                IntSupplier supp = intSupplier();
+                return supp::getAsInt;
+            }
+        };
+    }
+
     default MockUnit<IntStream> intStream() {
-        Supplier<IntStream> supp = () -> IntStream.generate(supplier()::get);
+        Supplier<IntStream> supp = () -> IntStream.generate(intSupplier());
         return () -> supp;
     }
     default MockUnit<int[]> arrayPrimitive(int size) {
         isTrue(size>=0, ValidationUtils.SIZE_BIGGER_THAN_ZERO);
         Supplier<int[]> supp = () -> {
+            final IntSupplier source = intSupplier();
             final int[] result = new int[size];
-            range(0, size).forEach(i -> result[i] = val());
+            for (int i = 0; i < size; i++) {
+                result[i] = source.getAsInt();
+            }
             return result;
         };
         return () -> supp;
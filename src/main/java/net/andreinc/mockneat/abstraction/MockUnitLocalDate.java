@@ -22,6 +22,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.Locale;
+import java.util.function.Supplier;
 
 import static java.util.Date.from;
 import static net.andreinc.mockneat.utils.MockUnitUtils.ifSupplierNotNullDo;
@@ -29,6 +30,12 @@ import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitLocalDate extends MockUnit<LocalDate> {
 
+    @Override
+    default MockUnitLocalDate compile() {
+        Supplier<LocalDate> supp = supplier();
+        return () -> supp;
+    }
+
     default MockUnit<Date> toUtilDate() {
         return () -> ifSupplierNotNullDo(supplier(),
                 localDate -> from(localDate
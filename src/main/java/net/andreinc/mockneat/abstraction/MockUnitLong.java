@@ -19,23 +19,93 @@ package net.andreinc.mockneat.abstraction;
 
 import net.andreinc.mockneat.utils.ValidationUtils;
 
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.LongStream;
 
 import static java.util.stream.IntStream.range;
 import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitLong extends MockUnit<Long> {
+
+    static MockUnitLong longUnit(LongSupplier longSupplier) {
+        notNull(longSupplier, "longSupplier");
+        Supplier<Long> supp = longSupplier::getAsLong;
+        return new MockUnitLong() {
+            @Override
+            public Supplier<Long> supplier() {
+                return supp;
+            }
+
+            @Override
+            public LongSupplier longSupplier() {
+                return longSupplier;
+            }
+        };
+    }
+
+    default LongSupplier longSupplier() {
+        Supplier<Long> supp = supplier();
+        return supp::get;
+    }
+
+    @Override
+    default MockUnitLong compile() {
+        return longUnit(longSupplier());
+    }
+
+    default MockUnitLong mapLong(LongUnaryOperator function) {
+        notNull(function, "function");
+        return derivedLong(source -> () -> function.applyAsLong(source.getAsLong()));
+    }
+
+    default MockUnitLong filterLong(LongPredicate predicate) {
+        notNull(predicate, "predicate");
+        return derivedLong(source -> () -> {
+            long val;
+            do {
+                val = source.getAsLong();
+            } while (!predicate.test(val));
+            return val;
+        });
+    }
+
+    /**
+     * The source is resolved every time the derived unit hands out a supplier, not when the operator is
+     * applied, so later changes to this unit are still seen. Bulk methods resolve it once per call.
+     */
+    default MockUnitLong derivedLong(UnaryOperator<LongSupplier> operator) {
+        return new MockUnitLong() {
+            @Override
+            public LongSupplier longSupplier() {
+                return operator.apply(MockUnitLong.this.longSupplier());
+            }
+
+            @Override
+            public Supplier<Long> supplier() {
+                LongSupplier supp = longSupplier();
+                return supp::getAsLong;
+            }
+        };
+    }
+
     default MockUnit<LongStream> longStream() {
-        Supplier<LongStream> supp = () -> LongStream.generate(supplier()::get);
+        Supplier<LongStream> supp = () -> LongStream.generate(longSupplier());
         return () -> supp;
     }
     default MockUnit<long[]> arrayPrimitive(int size) {
         isTrue(size>=0, ValidationUtils.SIZE_BIGGER_THAN_ZERO);
         Supplier<long[]> supp = () -> {
-            long[] array = new long[size];
-            range(0, size).forEach(i -> array[i] = val());
-            return array;
+            final LongSupplier source = longSupplier();
+            final long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = source.getAsLong();
+            }
+            return result;
         };
         return () -> supp;
     }
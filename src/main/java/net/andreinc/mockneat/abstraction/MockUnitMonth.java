@@ -27,6 +27,12 @@ import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
 public interface MockUnitMonth extends MockUnit<Month> {
 
+    @Override
+    default MockUnitMonth compile() {
+        Supplier<Month> supp = supplier();
+        return () -> supp;
+    }
+
     default MockUnitString display(TextStyle textStyle, Locale locale) {
         notNull(textStyle, "textStyle");
         notNull(locale, "locale");
@@ -17,14 +17,17 @@ package net.andreinc.mockneat.abstraction;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.types.enums.HashType;
 import net.andreinc.mockneat.types.enums.StringFormatType;
+import net.andreinc.mockneat.utils.Digests;
 import net.andreinc.mockneat.utils.ValidationUtils;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static java.net.URLEncoder.encode;
 import static net.andreinc.aleph.AlephFormatter.template;
@@ -34,6 +37,12 @@ import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 @FunctionalInterface
 public interface MockUnitString extends MockUnit<String> {
 
+    @Override
+    default MockUnitString compile() {
+        Supplier<String> supp = supplier();
+        return () -> supp;
+    }
+
     default MockUnitString format(StringFormatType formatType) {
         notNull(formatType, "formatType");
         return () -> ifSupplierNotNullDo(supplier(), formatType.getFormatter()::apply);
@@ -70,18 +79,21 @@ public interface MockUnitString extends MockUnit<String> {
     default MockUnitString replaceAll(String regex, String replacement) {
         notNull(regex, "regex");
         notNull(replacement, "replacement");
-        return () -> ifSupplierNotNullDo(supplier(), s -> s.replaceAll(regex,replacement));
+        Pattern pattern = Pattern.compile(regex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> pattern.matcher(s).replaceAll(replacement));
     }
 
     default MockUnitString replaceFirst(String regex, String replacement) {
         notNull(regex, "regex");
         notNull(replacement, "replacement");
-        return () -> ifSupplierNotNullDo(supplier(), s -> s.replaceFirst(regex, replacement));
+        Pattern pattern = Pattern.compile(regex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> pattern.matcher(s).replaceFirst(replacement));
     }
 
     default MockUnit<String[]> split(String regex, int limit) {
         notNull(regex, "regex");
-        return () -> ifSupplierNotNullDo(supplier(), s -> s.split(regex, limit));
+        Pattern pattern = Pattern.compile(regex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> pattern.split(s, limit));
     }
 
     default MockUnit<String[]> split(String regex) {
@@ -104,7 +116,15 @@ public interface MockUnitString extends MockUnit<String> {
     }
 
     default MockUnitString noSpecialChars() {
-        return () -> ifSupplierNotNullDo(supplier(), s -> s.replaceAll("[^\\dA-Za-z ]", ""));
+        return () -> ifSupplierNotNullDo(supplier(), CharPipeline::removeSpecialChars);
+    }
+
+    /**
+     * Returns a unit where the char-level operations that follow (case, replace, filter, prepend and append)
+     * are fused and applied in a single pass over each generated value.
+     */
+    default CharPipeline fused() {
+        return CharPipeline.of(this);
     }
 
     default MockUnitString escapeCsv() {
@@ -126,27 +146,27 @@ public interface MockUnitString extends MockUnit<String> {
     // TODO document methods
 
     default MockUnitString md2() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::md2Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.MD2, s));
     }
 
     default MockUnitString md5() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::md5Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.MD5, s));
     }
 
     default MockUnitString sha1() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::sha1Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.SHA1, s));
     }
 
     default MockUnitString sha256() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::sha256Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.SHA256, s));
     }
 
     default MockUnitString sha384() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::sha384Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.SHA384, s));
     }
 
     default MockUnitString sha512() {
-        return () -> ifSupplierNotNullDo(supplier(), DigestUtils::sha512Hex);
+        return () -> ifSupplierNotNullDo(supplier(), s -> Digests.hex(HashType.SHA512, s));
     }
 
     default MockUnitString base64() {
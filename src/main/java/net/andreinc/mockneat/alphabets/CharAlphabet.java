@@ -0,0 +1,137 @@
+package net.andreinc.mockneat.alphabets;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static net.andreinc.mockneat.utils.ValidationUtils.*;
+
+/**
+ * An alphabet stored as a {@code char[]}, used to generate random strings.
+ *
+ * Characters are picked from the bits of a single {@code nextLong()} call at a time: {@code log2(size)} bits
+ * (rounded up) per character, values outside the alphabet are dropped so every character stays equally likely.
+ */
+public final class CharAlphabet {
+
+    public static final CharAlphabet NUMBERS = of(Alphabets.DIGITS);
+    public static final CharAlphabet LETTERS = of(Alphabets.LETTERS);
+    public static final CharAlphabet ALPHA_NUMERIC = of(Alphabets.ALPHA_NUMERIC);
+    public static final CharAlphabet HEXA = of(Alphabets.HEXA);
+    public static final CharAlphabet SPECIAL_CHARACTERS = of(Alphabets.SPECIAL_CHARACTERS);
+
+    private final char[] chars;
+    // chars padded to 2^bits, so a value can be written before knowing if it's accepted (no branch to mispredict)
+    private final char[] table;
+    private final int bits;
+    private final int mask;
+    private final int perLong;
+
+    private CharAlphabet(char[] chars) {
+        this.chars = chars;
+        this.bits = chars.length == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(chars.length - 1);
+        this.mask = (1 << bits) - 1;
+        this.table = Arrays.copyOf(chars, 1 << bits);
+        this.perLong = bits == 0 ? Integer.MAX_VALUE : Long.SIZE / bits;
+    }
+
+    public static CharAlphabet of(String chars) {
+        notEmpty(chars, "chars");
+        return new CharAlphabet(chars.toCharArray());
+    }
+
+    public static CharAlphabet of(List<Character> chars) {
+        notNull(chars, "chars");
+        isTrue(!chars.isEmpty(), INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "input", "chars");
+        char[] result = new char[chars.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = notNull(chars.get(i), "chars[" + i + "]");
+        }
+        return new CharAlphabet(result);
+    }
+
+    public int size() {
+        return chars.length;
+    }
+
+    public String next(Random random, int length) {
+        isTrue(length >= 0, SIZE_BIGGER_THAN_ZERO);
+        char[] result = new char[length];
+        fill(random, result, 0, length);
+        return new String(result);
+    }
+
+    public void fill(Random random, char[] dst) {
+        notNull(dst, "dst");
+        fill(random, dst, 0, dst.length);
+    }
+
+    public void fill(Random random, char[] dst, int offset, int length) {
+        notNull(dst, "dst");
+        if (offset < 0 || length < 0 || offset > dst.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Size: " + dst.length);
+        }
+        int end = offset + length;
+        if (bits == 0) {
+            for (int i = offset; i < end; i++) { dst[i] = chars[0]; }
+            return;
+        }
+        int i = offset;
+        while (i < end) {
+            long word = random.nextLong();
+            for (int left = perLong; left > 0 && i < end; left--) {
+                int idx = (int) word & mask;
+                word >>>= bits;
+                dst[i] = table[idx];
+                i += (idx - chars.length) >>> 31;
+            }
+        }
+    }
+
+    /**
+     * Fills the remaining space of the buffer, from its position to its limit.
+     */
+    public void fill(Random random, CharBuffer dst) {
+        notNull(dst, "dst");
+        if (dst.hasArray()) {
+            int length = dst.remaining();
+            fill(random, dst.array(), dst.arrayOffset() + dst.position(), length);
+            dst.position(dst.position() + length);
+            return;
+        }
+        if (bits == 0) {
+            while (dst.hasRemaining()) { dst.put(chars[0]); }
+            return;
+        }
+        while (dst.hasRemaining()) {
+            long word = random.nextLong();
+            for (int left = perLong; left > 0 && dst.hasRemaining(); left--) {
+                int idx = (int) word & mask;
+                word >>>= bits;
+                if (idx < chars.length) {
+                    dst.put(chars[idx]);
+                }
+            }
+        }
+    }
+}
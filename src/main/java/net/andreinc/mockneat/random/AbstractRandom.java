@@ -0,0 +1,137 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.util.Random;
+
+/**
+ * Base class for the non-synchronized generators. Every value is derived from {@link #nextLong()}, so
+ * subclasses only have to implement the state transition and the seeding.
+ *
+ * Instances are not thread-safe: use one generator per thread.
+ */
+public abstract class AbstractRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+    protected static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    protected AbstractRandom(long seed) {
+        super(seed);
+    }
+
+    // Called by Random() before the subclass fields are initialized,
+    // so subclasses should not use field initializers for their state
+    protected abstract void seed(long seed);
+
+    @Override
+    public abstract long nextLong();
+
+    @Override
+    public void setSeed(long seed) {
+        seed(seed);
+        haveNextNextGaussian = false;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        // Lemire's multiply-shift, with rejection to stay unbiased
+        long m = (nextLong() >>> 32) * bound;
+        long l = m & 0xFFFFFFFFL;
+        if (l < bound) {
+            long t = (0x100000000L - bound) % bound;
+            while (l < t) {
+                m = (nextLong() >>> 32) * bound;
+                l = m & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        int i = 0;
+        int len = bytes.length;
+        while (i < len) {
+            long rnd = nextLong();
+            for (int n = Math.min(len - i, Long.BYTES); n-- > 0; rnd >>>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+
+    @Override
+    public double nextGaussian() {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+        double v1, v2, s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * multiplier;
+        haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    // SplitMix64 step, used to expand a single seed into the full generator state
+    protected static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,87 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+/**
+ * PCG32 (XSH RR 64/32, O'Neill). 64 bits of state and a selectable stream.
+ */
+public class Pcg32Random extends AbstractRandom implements Splittable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 6364136223846793005L;
+
+    private long state;
+    private long inc;
+
+    public Pcg32Random(long seed) {
+        super(seed);
+    }
+
+    public Pcg32Random(long seed, long stream) {
+        super(0L);
+        init(seed, stream);
+    }
+
+    @Override
+    protected void seed(long seed) {
+        init(seed, mix64(seed + GOLDEN_GAMMA));
+    }
+
+    private void init(long seed, long stream) {
+        this.state = 0L;
+        this.inc = (stream << 1) | 1L;
+        step();
+        this.state += seed;
+        step();
+    }
+
+    private int step() {
+        long old = state;
+        state = old * MULTIPLIER + inc;
+        int xorShifted = (int) (((old >>> 18) ^ old) >>> 27);
+        int rot = (int) (old >>> 59);
+        return Integer.rotateRight(xorShifted, rot);
+    }
+
+    @Override
+    public int nextInt() {
+        return step();
+    }
+
+    @Override
+    protected int next(int bits) {
+        return step() >>> (32 - bits);
+    }
+
+    @Override
+    public long nextLong() {
+        return ((long) step() << 32) | (step() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The child uses a different stream (increment), selected by the current generator.
+     */
+    @Override
+    public Pcg32Random split() {
+        long seed = nextLong();
+        long stream = nextLong();
+        return new Pcg32Random(seed, stream);
+    }
+}
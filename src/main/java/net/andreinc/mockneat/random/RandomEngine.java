@@ -0,0 +1,41 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.util.Random;
+
+/**
+ * Creates the {@link Random} instances that back a {@link net.andreinc.mockneat.MockNeat}.
+ *
+ * All the {@link net.andreinc.mockneat.types.enums.RandomType} values are engines, but custom implementations can
+ * be passed directly to {@link net.andreinc.mockneat.MockNeat#MockNeat(RandomEngine)}.
+ */
+public interface RandomEngine {
+
+    /**
+     * @return The generator used by a MockNeat instance that was created without a seed.
+     */
+    Random random();
+
+    /**
+     * @param seed The initial seed.
+     * @return A new generator, initialized with the given seed.
+     */
+    Random random(long seed);
+}
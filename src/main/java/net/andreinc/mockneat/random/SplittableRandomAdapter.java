@@ -0,0 +1,76 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Exposes a {@link SplittableRandom} through the {@link Random} API.
+ */
+public class SplittableRandomAdapter extends AbstractRandom implements Splittable {
+
+    private static final long serialVersionUID = 1L;
+
+    private SplittableRandom splittableRandom;
+
+    public SplittableRandomAdapter(long seed) {
+        super(seed);
+    }
+
+    private SplittableRandomAdapter(SplittableRandom splittableRandom) {
+        super(0L);
+        this.splittableRandom = splittableRandom;
+    }
+
+    @Override
+    protected void seed(long seed) {
+        this.splittableRandom = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return splittableRandom.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return splittableRandom.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittableRandom.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return splittableRandom.nextBoolean();
+    }
+
+    @Override
+    public SplittableRandomAdapter split() {
+        return new SplittableRandomAdapter(splittableRandom.split());
+    }
+}
@@ -0,0 +1,154 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Random} that resolves {@link ThreadLocalRandom#current()} every time a value is requested, so the
+ * generator is always the one owned by the calling thread.
+ */
+public final class ThreadLocalRandomDelegate extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean initialized;
+
+    public ThreadLocalRandomDelegate() {
+        super(0L);
+        this.initialized = true;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // Random() calls setSeed() before the constructor of this class finishes
+        if (initialized) {
+            throw new UnsupportedOperationException("The THREAD_LOCAL random cannot be seeded.");
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return ThreadLocalRandom.current().nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        ThreadLocalRandom.current().nextBytes(bytes);
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return ThreadLocalRandom.current().nextGaussian();
+    }
+
+    @Override
+    public IntStream ints(long streamSize) {
+        return ThreadLocalRandom.current().ints(streamSize);
+    }
+
+    @Override
+    public IntStream ints() {
+        return ThreadLocalRandom.current().ints();
+    }
+
+    @Override
+    public IntStream ints(long streamSize, int randomNumberOrigin, int randomNumberBound) {
+        return ThreadLocalRandom.current().ints(streamSize, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public IntStream ints(int randomNumberOrigin, int randomNumberBound) {
+        return ThreadLocalRandom.current().ints(randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public LongStream longs(long streamSize) {
+        return ThreadLocalRandom.current().longs(streamSize);
+    }
+
+    @Override
+    public LongStream longs() {
+        return ThreadLocalRandom.current().longs();
+    }
+
+    @Override
+    public LongStream longs(long streamSize, long randomNumberOrigin, long randomNumberBound) {
+        return ThreadLocalRandom.current().longs(streamSize, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public LongStream longs(long randomNumberOrigin, long randomNumberBound) {
+        return ThreadLocalRandom.current().longs(randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize) {
+        return ThreadLocalRandom.current().doubles(streamSize);
+    }
+
+    @Override
+    public DoubleStream doubles() {
+        return ThreadLocalRandom.current().doubles();
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize, double randomNumberOrigin, double randomNumberBound) {
+        return ThreadLocalRandom.current().doubles(streamSize, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public DoubleStream doubles(double randomNumberOrigin, double randomNumberBound) {
+        return ThreadLocalRandom.current().doubles(randomNumberOrigin, randomNumberBound);
+    }
+}
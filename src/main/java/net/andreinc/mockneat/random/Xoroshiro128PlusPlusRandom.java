@@ -0,0 +1,101 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+/**
+ * xoroshiro128++ (Blackman and Vigna). 128 bits of state, period 2^128 - 1.
+ */
+public class Xoroshiro128PlusPlusRandom extends AbstractRandom implements Splittable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long[] JUMP = { 0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L };
+
+    private long s0;
+    private long s1;
+
+    public Xoroshiro128PlusPlusRandom(long seed) {
+        super(seed);
+    }
+
+    private Xoroshiro128PlusPlusRandom(long s0, long s1) {
+        super(0L);
+        this.s0 = s0;
+        this.s1 = s1;
+    }
+
+    @Override
+    protected void seed(long seed) {
+        long z = seed + GOLDEN_GAMMA;
+        this.s0 = mix64(z);
+        this.s1 = mix64(z + GOLDEN_GAMMA);
+        if ((s0 | s1) == 0L) {
+            // The all-zero state is the only one that must be avoided
+            this.s1 = GOLDEN_GAMMA;
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        final long l0 = s0;
+        long l1 = s1;
+        final long result = Long.rotateLeft(l0 + l1, 17) + l0;
+        l1 ^= l0;
+        s0 = Long.rotateLeft(l0, 49) ^ l1 ^ (l1 << 21);
+        s1 = Long.rotateLeft(l1, 28);
+        return result;
+    }
+
+    /**
+     * Advances this generator by 2^64 steps.
+     */
+    public void jump() {
+        long j0 = 0L;
+        long j1 = 0L;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+    }
+
+    /**
+     * @return A copy of this generator, having the exact same state.
+     */
+    public Xoroshiro128PlusPlusRandom copy() {
+        return new Xoroshiro128PlusPlusRandom(s0, s1);
+    }
+
+    /**
+     * Returns a copy of the current generator and jumps ahead, so the child and the parent
+     * draw from non-overlapping sub-sequences of 2^64 values.
+     */
+    @Override
+    public Xoroshiro128PlusPlusRandom split() {
+        Xoroshiro128PlusPlusRandom child = copy();
+        jump();
+        return child;
+    }
+}
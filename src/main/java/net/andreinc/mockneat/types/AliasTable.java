@@ -0,0 +1,98 @@
+package net.andreinc.mockneat.types;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.util.Random;
+
+import static net.andreinc.mockneat.utils.ValidationUtils.*;
+
+/**
+ * Discrete distribution sampled in O(1) using Vose's alias method.
+ *
+ * The table is built once from non-negative weights (they don't need to sum to 1.0). Each sample costs one
+ * {@code nextInt} and one {@code nextDouble}. Outcomes with a weight of 0.0 are never returned.
+ */
+public final class AliasTable {
+
+    private final int[] outcomes;
+    private final double[] prob;
+    private final int[] alias;
+
+    public AliasTable(double[] weights) {
+        notNull(weights, "weights");
+        isTrue(weights.length > 0, INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "input", "weights");
+
+        double sum = 0.0;
+        int n = 0;
+        for (double w : weights) {
+            isTrue(Double.isFinite(w) && w >= 0.0, WEIGHT_NOT_NEGATIVE, "weight", w);
+            sum += w;
+            if (w > 0.0) { n++; }
+        }
+        isTrue(sum > 0.0 && Double.isFinite(sum), WEIGHTS_SUM_NOT_POSITIVE, "sum", sum);
+
+        this.outcomes = new int[n];
+        this.prob = new double[n];
+        this.alias = new int[n];
+
+        double[] scaled = new double[n];
+        for (int i = 0, j = 0; i < weights.length; i++) {
+            if (weights[i] > 0.0) {
+                outcomes[j] = i;
+                scaled[j++] = weights[i] * n / sum;
+            }
+        }
+
+        // Both work lists share one array: small grows from the left, large from the right
+        int[] work = new int[n];
+        int small = 0, large = n;
+        for (int i = 0; i < n; i++) {
+            if (scaled[i] < 1.0) { work[small++] = i; }
+            else { work[--large] = i; }
+        }
+
+        while (small > 0 && large < n) {
+            int s = work[--small];
+            int l = work[large++];
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) { work[small++] = l; }
+            else { work[--large] = l; }
+        }
+
+        // Whatever is left is 1.0 up to rounding errors
+        while (large < n) { prob[work[large++]] = 1.0; }
+        while (small > 0) { prob[work[--small]] = 1.0; }
+    }
+
+    public int size() {
+        return outcomes.length;
+    }
+
+    /**
+     * Returns the index (in the original weights array) of the sampled outcome.
+     */
+    public int next(Random random) {
+        int column = random.nextInt(prob.length);
+        int idx = random.nextDouble() < prob[column] ? column : alias[column];
+        return outcomes[idx];
+    }
+}
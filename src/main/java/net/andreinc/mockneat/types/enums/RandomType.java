@@ -17,24 +17,61 @@ package net.andreinc.mockneat.types.enums;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.random.Pcg32Random;
+import net.andreinc.mockneat.random.RandomEngine;
+import net.andreinc.mockneat.random.SplittableRandomAdapter;
+import net.andreinc.mockneat.random.ThreadLocalRandomDelegate;
+import net.andreinc.mockneat.random.Xoroshiro128PlusPlusRandom;
+
 import java.security.SecureRandom;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
 
 @SuppressWarnings("ImmutableEnumChecker")
-public enum RandomType {
+public enum RandomType implements RandomEngine {
 
-    OLD(new java.util.Random()),
-    SECURE(new SecureRandom()),
-    THREAD_LOCAL(ThreadLocalRandom.current());
+    OLD(new java.util.Random(), Random::new),
+    SECURE(new SecureRandom(), RandomType::secure),
+    THREAD_LOCAL(new ThreadLocalRandomDelegate(), RandomType::notSeedable),
+    // Non-synchronized generators: every MockNeat gets its own instance,
+    // which should not be shared between threads
+    SPLITTABLE(null, SplittableRandomAdapter::new),
+    XOROSHIRO_128_PP(null, Xoroshiro128PlusPlusRandom::new),
+    PCG_32(null, Pcg32Random::new);
 
     private final Random random;
+    private final LongFunction<Random> seeded;
 
-    RandomType(Random random) {
+    RandomType(Random random, LongFunction<Random> seeded) {
         this.random = random;
+        this.seeded = seeded;
     }
 
     public Random getRandom() {
+        return random();
+    }
+
+    @Override
+    public Random random() {
+        if (null == random) {
+            return seeded.apply(ThreadLocalRandom.current().nextLong());
+        }
         return random;
     }
+
+    @Override
+    public Random random(long seed) {
+        return seeded.apply(seed);
+    }
+
+    private static Random secure(long seed) {
+        Random secure = new SecureRandom();
+        secure.setSeed(seed);
+        return secure;
+    }
+
+    private static Random notSeedable(long seed) {
+        throw new UnsupportedOperationException("The THREAD_LOCAL random cannot be seeded.");
+    }
 }
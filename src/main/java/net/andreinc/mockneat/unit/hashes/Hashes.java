@@ -20,44 +20,69 @@ package net.andreinc.mockneat.unit.hashes;
 import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
-import org.apache.commons.codec.digest.DigestUtils;
+import net.andreinc.mockneat.types.enums.HashType;
+import net.andreinc.mockneat.utils.Digests;
 
-import java.util.function.Function;
+import java.util.Random;
 import java.util.function.Supplier;
 
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
+
 public class Hashes extends MockUnitBase {
 
-    private static final Integer HASHED_STRING_SIZE = 128;
+    private static final int HASHED_BYTES = 128;
+
+    // The hashed input is random bytes, only the digest leaves the thread
+    private static final ThreadLocal<byte[]> INPUT = ThreadLocal.withInitial(() -> new byte[HASHED_BYTES]);
+
+    private final Random random;
 
     public Hashes(MockNeat mockNeat) {
         super(mockNeat);
+        this.random = mockNeat.getRandom();
+    }
+
+    public MockUnitString hash(HashType type) {
+        notNull(type, "type");
+        Supplier<String> supp = () -> {
+            byte[] input = INPUT.get();
+            random.nextBytes(input);
+            return Digests.hex(type, input);
+        };
+        return () -> supp;
     }
 
-    private Supplier<String> supplier(Function<String, String> digester) {
-        return mockNeat.strings().size(HASHED_STRING_SIZE).map(digester).supplier();
+    /**
+     * Random hex strings shaped like the {@code type} digests (same length and alphabet), generated without
+     * hashing anything.
+     */
+    public MockUnitString randomHash(HashType type) {
+        notNull(type, "type");
+        Supplier<String> supp = () -> Digests.randomHex(type, random);
+        return () -> supp;
     }
 
     public MockUnitString md2() {
-        return () -> supplier(DigestUtils::md2Hex);
+        return hash(HashType.MD2);
     }
 
     public MockUnitString md5() {
-        return () -> supplier(DigestUtils::md5Hex);
+        return hash(HashType.MD5);
     }
 
     public MockUnitString sha1() {
-        return () -> supplier(DigestUtils::sha1Hex);
+        return hash(HashType.SHA1);
     }
 
     public MockUnitString sha256() {
-        return () -> supplier(DigestUtils::sha256Hex);
+        return hash(HashType.SHA256);
     }
 
     public MockUnitString sha384() {
-        return () -> supplier(DigestUtils::sha384Hex);
+        return hash(HashType.SHA384);
     }
 
     public MockUnitString sha512() {
-        return () -> supplier(DigestUtils::sha512Hex);
+        return hash(HashType.SHA512);
     }
 }
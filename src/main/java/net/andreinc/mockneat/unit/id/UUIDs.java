@@ -17,16 +17,31 @@ package net.andreinc.mockneat.unit.id;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
 
+import java.util.Random;
 import java.util.UUID;
 import java.util.function.Supplier;
 
-public class UUIDs implements MockUnitString {
+public class UUIDs extends MockUnitBase implements MockUnitString {
+
+    private final Random random;
+
+    public UUIDs(MockNeat mockNeat) {
+        super(mockNeat);
+        this.random = mockNeat.getRandom();
+    }
 
     @Override
     public Supplier<String> supplier() {
-       return UUID.randomUUID()::toString;
+        // Random (version 4) UUIDs, drawn from the MockNeat random so seeded instances are reproducible
+        return () -> {
+            long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb).toString();
+        };
     }
 
 }
@@ -0,0 +1,235 @@
+package net.andreinc.mockneat.unit.objects;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.abstraction.MockValue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates the fields that {@link Reflect} has no explicit value for, when deep mode is on.
+ *
+ * Supported are: the types with a default value ({@code Reflect.type(...)} and the built-in ones), enums, arrays,
+ * {@code List / Collection / Iterable / ArrayList}, {@code Set / HashSet / LinkedHashSet},
+ * {@code Map / HashMap / LinkedHashMap} and nested beans (public, concrete, non JDK classes with a public no-args
+ * constructor). Everything else is left untouched.
+ *
+ * Nested beans are generated while there's depth left. Every generated object is new, so objects never form
+ * cycles, but a class can be nested inside itself at most {@code recursion} times (e.g.: 0 cuts back-references
+ * like {@code OrderLine.order} with null, the default lets {@code depth} end self-referencing trees). The generators of every class are computed once and reused for all the values; the field
+ * layout comes from the shared {@link ReflectPlan}.
+ */
+final class DeepValues {
+
+    @FunctionalInterface
+    interface Gen {
+        // 'depth' is how many levels of nested beans can still be created, 'path' holds the enclosing classes
+        Object get(int depth, Deque<Class<?>> path);
+    }
+
+    private final Random random;
+    private final Map<Class<?>, MockValue> defaults;
+    private final int collectionSize;
+    private final int recursion;
+
+    private final Map<Class<?>, Gen[]> nodes = new ConcurrentHashMap<>();
+
+    DeepValues(Random random, Map<Class<?>, MockValue> defaults, int collectionSize, int recursion) {
+        this.random = random;
+        this.defaults = new HashMap<>(defaults);
+        this.collectionSize = collectionSize;
+        this.recursion = recursion;
+    }
+
+    // The generators for the fields of the plan, null for the fields that are not generated
+    Gen[] gens(ReflectPlan plan) {
+        Gen[] gens = new Gen[plan.size()];
+        for (int i = 0; i < gens.length; i++) {
+            if (plan.isInstanceField(i)) {
+                gens[i] = gen(plan.genericType(i));
+            }
+        }
+        return gens;
+    }
+
+    static Deque<Class<?>> path(Class<?> root) {
+        Deque<Class<?>> path = new ArrayDeque<>();
+        path.push(root);
+        return path;
+    }
+
+    static void fill(ReflectPlan plan, Gen[] gens, Object object, int depth, Deque<Class<?>> path) {
+        for (int i = 0; i < gens.length; i++) {
+            if (gens[i] != null) {
+                plan.write(i, object, gens[i].get(depth, path));
+            }
+        }
+    }
+
+    private Object newBean(Class<?> cls, int depth, Deque<Class<?>> path) {
+        if (depth <= 0 || nestings(cls, path) > recursion) {
+            return null;
+        }
+        ReflectPlan plan = ReflectPlan.of(cls);
+        Gen[] gens = nodes.computeIfAbsent(cls, c -> gens(plan));
+        Object object = plan.newInstance();
+        path.push(cls);
+        try {
+            fill(plan, gens, object, depth - 1, path);
+        } finally {
+            path.pop();
+        }
+        return object;
+    }
+
+    // How many times 'cls' would be nested inside itself
+    private static int nestings(Class<?> cls, Deque<Class<?>> path) {
+        int count = 0;
+        for (Class<?> enclosing : path) {
+            if (enclosing == cls) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Gen gen(Type type) {
+        if (type instanceof Class) {
+            return gen((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType pt = (ParameterizedType) type;
+            Class<?> raw = (Class<?>) pt.getRawType();
+            Type[] args = pt.getActualTypeArguments();
+            if (raw == List.class || raw == Collection.class || raw == Iterable.class || raw == ArrayList.class) {
+                return collection(args[0], ArrayList::new);
+            }
+            if (raw == Set.class || raw == HashSet.class || raw == LinkedHashSet.class) {
+                return collection(args[0], LinkedHashSet::new);
+            }
+            if (raw == Map.class || raw == HashMap.class || raw == LinkedHashMap.class) {
+                return map(args[0], args[1]);
+            }
+            return bean(raw);
+        }
+        return null;
+    }
+
+    private Gen gen(Class<?> cls) {
+        MockValue value = defaults.get(cls);
+        if (value != null) {
+            return (depth, path) -> value.get();
+        }
+        if (cls.isEnum()) {
+            Object[] constants = cls.getEnumConstants();
+            return constants.length == 0 ? null : (depth, path) -> constants[random.nextInt(constants.length)];
+        }
+        if (cls.isArray()) {
+            return array(cls.getComponentType());
+        }
+        return bean(cls);
+    }
+
+    private Gen bean(Class<?> cls) {
+        if (cls.isPrimitive() || cls.isArray() || cls.getName().startsWith("java.")
+                || cls.getName().startsWith("javax.") || !ReflectPlan.of(cls).canInstantiate()) {
+            return null;
+        }
+        return (depth, path) -> newBean(cls, depth, path);
+    }
+
+    private Gen array(Class<?> component) {
+        Gen element = gen(component);
+        if (element == null) {
+            return null;
+        }
+        return (depth, path) -> {
+            List<Object> values = elements(element, depth, path);
+            Object array = Array.newInstance(component, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Array.set(array, i, values.get(i));
+            }
+            return array;
+        };
+    }
+
+    @FunctionalInterface
+    private interface CollectionFactory {
+        Collection<Object> create(int size);
+    }
+
+    private Gen collection(Type elementType, CollectionFactory factory) {
+        Gen element = gen(elementType);
+        if (element == null) {
+            return null;
+        }
+        return (depth, path) -> {
+            Collection<Object> collection = factory.create(collectionSize);
+            collection.addAll(elements(element, depth, path));
+            return collection;
+        };
+    }
+
+    private Gen map(Type keyType, Type valueType) {
+        Gen key = gen(keyType);
+        Gen value = gen(valueType);
+        if (key == null || value == null) {
+            return null;
+        }
+        return (depth, path) -> {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < collectionSize; i++) {
+                Object k = key.get(depth, path);
+                Object v = value.get(depth, path);
+                if (k != null && v != null) {
+                    map.put(k, v);
+                }
+            }
+            return map;
+        };
+    }
+
+    // Nested beans past the recursion limit (or out of depth) are null, and are not added
+    private List<Object> elements(Gen element, int depth, Deque<Class<?>> path) {
+        List<Object> values = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            Object value = element.get(depth, path);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
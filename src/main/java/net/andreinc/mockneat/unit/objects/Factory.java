@@ -24,7 +24,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
-import static java.util.regex.Pattern.compile;
 import static java.util.stream.IntStream.range;
 import static net.andreinc.aleph.AlephFormatter.template;
 import static net.andreinc.mockneat.utils.MockUnitUtils.listTypes;
@@ -34,7 +33,7 @@ import static org.apache.commons.lang3.reflect.MethodUtils.invokeExactStaticMeth
 public class Factory<T, FT> implements MockUnit<T> {
 
     private static final Pattern JAVA_FIELD_REGEX =
-            compile("^[a-zA-Z_$][a-zA-Z_$0-9]*$");
+            Pattern.compile("^[a-zA-Z_$][a-zA-Z_$0-9]*$");
 
     private final Class<T> targetClass;
     private final Class<FT> factoryClass;
@@ -20,8 +20,8 @@ package net.andreinc.mockneat.unit.objects;
 import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnit;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
-import net.andreinc.mockneat.abstraction.MockUnitDouble;
 import net.andreinc.mockneat.abstraction.MockValue;
+import net.andreinc.mockneat.types.AliasTable;
 import net.andreinc.mockneat.types.Pair;
 import net.andreinc.mockneat.utils.ValidationUtils;
 
@@ -36,11 +36,13 @@ import static net.andreinc.mockneat.utils.ValidationUtils.*;
 public class Probabilities<T> extends MockUnitBase implements MockUnit<T> {
 
     private final List<Pair<Double, MockValue>> probs = new ArrayList<>();
-    private final MockUnitDouble mud;
+    private double sum = 0.0;
+
+    // Built on first use, discarded when a new probability is added
+    private volatile Pair<AliasTable, MockValue[]> table;
 
     public Probabilities(MockNeat mockNeat, Class<T> cls) {
         super(mockNeat);
-        this.mud = mockNeat.doubles().range(0, 1.0);
     }
 
     @Override
@@ -49,34 +51,41 @@ public class Probabilities<T> extends MockUnitBase implements MockUnit<T> {
     }
 
     public Probabilities<T> add(Double prob, MockUnit<T> mock) {
-        notNull(prob, "prob");
-        isTrue(prob.compareTo(0.0)>0, PROBABILITY_NOT_NEGATIVE, "prob", prob);
-        double lastVal = lastVal();
-        double toAdd = lastVal + prob;
-        isTrue(!(lastVal + prob > 1.0), PROBABILITIES_SUM_BIGGER);
-        probs.add(Pair.of(toAdd, unit(mock)));
-        return this;
+        return add(prob, unit(mock));
     }
 
     public Probabilities<T> add(Double prob, T obj) {
+        return add(prob, constant(obj));
+    }
+
+    private Probabilities<T> add(Double prob, MockValue value) {
         notNull(prob, "prob");
         isTrue(prob.compareTo(0.0)>0, PROBABILITY_NOT_NEGATIVE, "prob", prob);
-        double lastVal = lastVal();
-        double toAdd = lastVal + prob;
-        isTrue(!(lastVal + prob > 1.0), PROBABILITIES_SUM_BIGGER);
-        probs.add(Pair.of(toAdd, constant(obj)));
+        isTrue(!(sum + prob > 1.0), PROBABILITIES_SUM_BIGGER);
+        probs.add(Pair.of(prob, value));
+        sum += prob;
+        table = null;
         return this;
     }
 
-    private double lastVal() {
-       return (probs.size()==0) ? 0.0 : probs.get(probs.size()-1).getFirst();
+    private Pair<AliasTable, MockValue[]> table() {
+        Pair<AliasTable, MockValue[]> t = table;
+        if (t == null) {
+            isTrue(!(sum < 1.0), ValidationUtils.PROBABILITIES_SUM_NOT_1);
+            double[] weights = new double[probs.size()];
+            MockValue[] values = new MockValue[probs.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = probs.get(i).getFirst();
+                values[i] = probs.get(i).getSecond();
+            }
+            t = Pair.of(new AliasTable(weights), values);
+            table = t;
+        }
+        return t;
     }
 
     private T getMock() {
-        isTrue(!(probs.get(probs.size()-1).getFirst()<1.0) , ValidationUtils.PROBABILITIES_SUM_NOT_1);
-        double rVal = mud.val();
-        int i = 0;
-        while(probs.get(i).getFirst() < rVal) { i++; }
-        return (T) probs.get(i).getSecond().get();
+        Pair<AliasTable, MockValue[]> t = table();
+        return (T) t.getSecond()[t.getFirst().next(mockNeat.getRandom())].get();
     }
-}
\ No newline at end of file
+}
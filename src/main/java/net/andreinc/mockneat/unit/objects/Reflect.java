@@ -23,6 +23,7 @@ import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockValue;
 
 import java.lang.reflect.Field;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -30,61 +31,106 @@ import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static java.lang.reflect.Modifier.FINAL;
-import static java.util.regex.Pattern.compile;
 import static net.andreinc.aleph.AlephFormatter.template;
 import static net.andreinc.mockneat.abstraction.MockConstValue.constant;
 import static net.andreinc.mockneat.abstraction.MockUnitValue.unit;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
-import static org.apache.commons.lang3.reflect.FieldUtils.*;
 
 public class Reflect<T> extends MockUnitBase implements MockUnit<T> {
 
+    private static final int DEEP_COLLECTION_SIZE = 3;
+
     private static final Pattern JAVA_FIELD_REGEX =
-            compile("^[a-zA-Z_$][a-zA-Z_$0-9]*$");
+            Pattern.compile("^[a-zA-Z_$][a-zA-Z_$0-9]*$");
 
     private final Map<String, MockValue> fields = new LinkedHashMap<>();
     private boolean useDefaults = false;
     private final Map<Class<?>, MockValue> defaults = new HashMap<>();
+    private boolean defaultsInitialized = false;
     private final Class<T> cls;
 
+    // 0 when deep mode is off
+    private int depth = 0;
+    private int collectionSize = DEEP_COLLECTION_SIZE;
+    private int recursion = Integer.MAX_VALUE;
+
+    // Resolved from everything above when the first supplier is created, reset by any change
+    private volatile Binding binding;
+
+    private static final class Binding {
+        // The MockValue written in every field of the ReflectPlan, null for no value
+        final MockValue[] values;
+        // The generators for the remaining fields in deep mode, null otherwise
+        final DeepValues.Gen[] gens;
+
+        Binding(MockValue[] values, DeepValues.Gen[] gens) {
+            this.values = values;
+            this.gens = gens;
+        }
+    }
+
     public Reflect(MockNeat mockNeat, Class<T> cls) {
         super(mockNeat);
         this.cls = cls;
-        initDefaults();
     }
 
+    // Only created when they are needed; type() takes precedence over them
     private void initDefaults() {
-        type(boolean.class, mockNeat.bools());
-        type(Boolean.class, mockNeat.bools());
+        defaultType(boolean.class, mockNeat.bools());
+        defaultType(Boolean.class, mockNeat.bools());
 
-        type(char.class, mockNeat.chars().letters());
-        type(Character.class, mockNeat.chars().letters());
+        defaultType(char.class, mockNeat.chars().letters());
+        defaultType(Character.class, mockNeat.chars().letters());
 
-        type(short.class, mockNeat.ints().bound(100).map(Integer::shortValue));
-        type(Short.class, mockNeat.ints().bound(100).map(Integer::shortValue));
+        defaultType(short.class, mockNeat.ints().bound(100).map(Integer::shortValue));
+        defaultType(Short.class, mockNeat.ints().bound(100).map(Integer::shortValue));
 
-        type(int.class, mockNeat.ints().bound(100));
-        type(Integer.class, mockNeat.ints().bound(100));
+        defaultType(int.class, mockNeat.ints().bound(100));
+        defaultType(Integer.class, mockNeat.ints().bound(100));
 
-        type(long.class, mockNeat.longs().bound(100));
-        type(Long.class, mockNeat.longs().bound(100));
+        defaultType(long.class, mockNeat.longs().bound(100));
+        defaultType(Long.class, mockNeat.longs().bound(100));
 
-        type(double.class, mockNeat.doubles().bound(10));
-        type(Double.class, mockNeat.doubles().bound(10));
+        defaultType(double.class, mockNeat.doubles().bound(10));
+        defaultType(Double.class, mockNeat.doubles().bound(10));
 
-        type(float.class, mockNeat.floats().bound(10));
-        type(Float.class, mockNeat.floats().bound(10));
+        defaultType(float.class, mockNeat.floats().bound(10));
+        defaultType(Float.class, mockNeat.floats().bound(10));
 
-        type(String.class, mockNeat.strings().size(32));
+        defaultType(String.class, mockNeat.strings().size(32));
+    }
+
+    private void defaultType(Class<?> cls, MockUnit<?> mockUnit) {
+        this.defaults.putIfAbsent(cls, unit(mockUnit));
     }
 
     @Override
     public Supplier<T> supplier() {
         notNull(cls, "cls");
-        validateFields();
+        ReflectPlan plan = ReflectPlan.of(cls);
+        Binding current = binding;
+        if (current == null) {
+            validateFields(plan);
+            MockValue[] values = values(plan);
+            DeepValues.Gen[] gens = (depth > 0) ?
+                    new DeepValues(mockNeat.getRandom(), defaults, collectionSize, recursion).gens(plan) : null;
+            binding = current = new Binding(values, gens);
+        }
+        MockValue[] bound = current.values;
+        DeepValues.Gen[] gens = current.gens;
+        int maxDepth = depth;
         return () -> {
-            T instance = instance();
-            setValues(instance);
+            T instance = cls.cast(plan.newInstance());
+            Deque<Class<?>> path = (gens == null) ? null : DeepValues.path(cls);
+            for (int i = 0; i < bound.length; i++) {
+                if (bound[i] != null) {
+                    plan.write(i, instance, bound[i].get());
+                } else if (gens == null) {
+                    plan.write(i, instance, null);
+                } else if (gens[i] != null) {
+                    plan.write(i, instance, gens[i].get(maxDepth, path));
+                }
+            }
             return instance;
         };
     }
@@ -93,23 +139,57 @@ public class Reflect<T> extends MockUnitBase implements MockUnit<T> {
         notEmpty(fieldName, "fieldName");
         notNull(mockUnit, "mockUnit");
         this.fields.put(fieldName, unit(mockUnit));
+        this.binding = null;
         return this;
     }
 
     public Reflect<T> field(String fieldName, Object value) {
         notEmpty(fieldName, "fieldName");
         this.fields.put(fieldName, constant(value));
+        this.binding = null;
+        return this;
+    }
+
+    /**
+     * Generates every field that has no explicit value: the types registered with {@code type(...)} and the
+     * default ones, enums, arrays, lists, sets, maps and nested beans, up to {@code depth} levels of nested beans.
+     * Self-referencing classes (trees, linked nodes) are nested down to {@code depth} too, unless
+     * {@link #recursion(int)} limits them. Fields of other types, and static or final fields, are left untouched.
+     */
+    public Reflect<T> deep(int depth) {
+        isTrue(depth > 0, DEEP_DEPTH_BIGGER_THAN_ZERO, "depth", depth);
+        this.depth = depth;
+        this.binding = null;
+        return this;
+    }
+
+    public Reflect<T> deep(int depth, int collectionSize) {
+        isTrue(collectionSize >= 0, SIZE_BIGGER_THAN_ZERO);
+        this.collectionSize = collectionSize;
+        return deep(depth);
+    }
+
+    /**
+     * In deep mode, how many times a class can be nested inside itself: 0 leaves back-references (e.g. an
+     * {@code OrderLine.order} field inside an {@code Order}) null. Unlimited by default, {@code depth} still applies.
+     */
+    public Reflect<T> recursion(int limit) {
+        isTrue(limit >= 0, DEEP_RECURSION_BIGGER_THAN_ZERO, "recursion", limit);
+        this.recursion = limit;
+        this.binding = null;
         return this;
     }
 
     public Reflect<T> useDefaults(boolean status) {
         this.useDefaults = status;
+        this.binding = null;
         return this;
     }
 
     public Reflect<T> type(Class<?> cls, Object value) {
         notNull(cls, "cls");
         this.defaults.put(cls, constant(value));
+        this.binding = null;
         return this;
     }
 
@@ -117,15 +197,16 @@ public class Reflect<T> extends MockUnitBase implements MockUnit<T> {
         notNull(cls, "cls");
         notNull(mockUnit, "mockUnit");
         this.defaults.put(cls, unit(mockUnit));
+        this.binding = null;
         return this;
     }
 
-    private void validateFields() {
+    private void validateFields(ReflectPlan plan) {
         notNull(fields, "fields");
         fields.forEach((k, v) -> {
             notEmpty(k, "fieldName");
             isTrue(JAVA_FIELD_REGEX.matcher(k).matches(), JAVA_FIELD_REGEX_MATCH, "field", k);
-            Field field = getDeclaredField(cls, k, true);
+            Field field = plan.declaredField(k);
             if (field==null) {
                 String fmt = template(JAVA_FIELD_DOESNT_EXIST_ON_CLASS, "field", k).fmt();
                 throw new IllegalArgumentException(fmt);
@@ -135,46 +216,23 @@ public class Reflect<T> extends MockUnitBase implements MockUnit<T> {
         });
     }
 
-    private T instance() {
-        try {
-            return cls.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            String fmt = template(CANNOT_INSTANTIATE_OBJECT_OF_CLASS)
-                            .arg("cls", cls)
-                            .fmt();
-            throw new IllegalArgumentException(fmt, e);
+    private MockValue[] values(ReflectPlan plan) {
+        boolean withDefaults = useDefaults || depth > 0;
+        if (withDefaults && !defaultsInitialized) {
+            initDefaults();
+            defaultsInitialized = true;
         }
-    }
-
-    private void setValues(T object) {
-        getAllFieldsList(cls).forEach(field -> {
-
-            if (field.isSynthetic()) {
-                // Skip synthetic fields
-                return;
-            }
-
-            String name = field.getName();
-            Class<?> fieldCls = field.getType();
-            Object val = null;
-
+        MockValue[] vals = new MockValue[plan.size()];
+        for (int i = 0; i < vals.length; i++) {
+            String name = plan.name(i);
+            Class<?> fieldCls = plan.type(i);
             if (fields.containsKey(name)) {
-                val = fields.get(name).get();
-            } else if (defaults.containsKey(fieldCls) && useDefaults) {
-                // Fallback to useDefaults
-                val = defaults.get(fieldCls).get();
+                vals[i] = fields.get(name);
+            } else if (defaults.containsKey(fieldCls) && withDefaults && (depth == 0 || plan.isInstanceField(i))) {
+                // Fallback to useDefaults; deep mode never writes static or final fields
+                vals[i] = defaults.get(fieldCls);
             }
-
-            try {
-                writeField(object, name, val, true);
-            } catch (IllegalAccessException e) {
-                String fmt = template(CANNOT_SET_FIELD_WITH_VALUE)
-                        .arg("cls", fieldCls)
-                        .arg("field", name)
-                        .arg("val", val)
-                        .fmt();
-                throw new IllegalArgumentException(fmt, e);
-            }
-        });
+        }
+        return vals;
     }
 }
@@ -0,0 +1,257 @@
+package net.andreinc.mockneat.unit.objects;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.andreinc.aleph.AlephFormatter.template;
+import static net.andreinc.mockneat.utils.ValidationUtils.CANNOT_INSTANTIATE_OBJECT_OF_CLASS;
+import static net.andreinc.mockneat.utils.ValidationUtils.CANNOT_SET_FIELD_WITH_VALUE;
+import static org.apache.commons.lang3.ClassUtils.isAssignable;
+import static org.apache.commons.lang3.ClassUtils.primitiveToWrapper;
+import static org.apache.commons.lang3.reflect.FieldUtils.getAllFieldsList;
+import static org.apache.commons.lang3.reflect.FieldUtils.getField;
+
+/**
+ * How {@link Reflect} populates the objects of a class: the no-args constructor and, for every non-synthetic
+ * field of the class and its superclasses (in {@code FieldUtils.getAllFieldsList()} order), the field that
+ * {@code FieldUtils.writeField()} would write, with a setter {@link MethodHandle} resolved once.
+ *
+ * Plans are computed on first use and shared by all the {@link Reflect} instances of a class.
+ */
+final class ReflectPlan {
+
+    private static final ClassValue<ReflectPlan> PLANS = new ClassValue<ReflectPlan>() {
+        @Override
+        protected ReflectPlan computeValue(Class<?> cls) {
+            return new ReflectPlan(cls);
+        }
+    };
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> cls;
+    private final java.lang.reflect.Constructor<?> constructor;
+    private final Map<String, Field> declared = new HashMap<>();
+    private final Writer[] writers;
+
+    private ReflectPlan(Class<?> cls) {
+        this.cls = cls;
+        this.constructor = constructor(cls);
+
+        for (Field field : cls.getDeclaredFields()) {
+            declared.put(field.getName(), field);
+        }
+
+        List<Writer> writers = new ArrayList<>();
+        for (Field field : getAllFieldsList(cls)) {
+            if (field.isSynthetic()) {
+                continue;
+            }
+            // Fields are written by name, so a shadowed field resolves to the one closest to 'cls'
+            writers.add(new Writer(field.getName(), field.getType(), getField(cls, field.getName(), true)));
+        }
+        this.writers = writers.toArray(new Writer[0]);
+    }
+
+    static ReflectPlan of(Class<?> cls) {
+        return PLANS.get(cls);
+    }
+
+    // Same as FieldUtils.getDeclaredField(cls, name, true), without copying the Field
+    Field declaredField(String name) {
+        return declared.get(name);
+    }
+
+    int size() {
+        return writers.length;
+    }
+
+    String name(int i) {
+        return writers[i].name;
+    }
+
+    Class<?> type(int i) {
+        return writers[i].type;
+    }
+
+    // The generic type of the field that is written
+    Type genericType(int i) {
+        return writers[i].target.getGenericType();
+    }
+
+    // Static and final fields are never generated in deep mode
+    boolean isInstanceField(int i) {
+        int modifiers = writers[i].target.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers);
+    }
+
+    // A public, concrete class with a public no-args constructor
+    boolean canInstantiate() {
+        int modifiers = cls.getModifiers();
+        return constructor != null
+                && Modifier.isPublic(constructor.getModifiers())
+                && Modifier.isPublic(modifiers)
+                && !Modifier.isAbstract(modifiers)
+                && !cls.isInterface();
+    }
+
+    Object newInstance() {
+        try {
+            if (constructor == null) {
+                throw new NoSuchMethodException(cls.getName() + ".<init>()");
+            }
+            return constructor.newInstance();
+        } catch (Exception e) {
+            String fmt = template(CANNOT_INSTANTIATE_OBJECT_OF_CLASS)
+                            .arg("cls", cls)
+                            .fmt();
+            throw new IllegalArgumentException(fmt, e);
+        }
+    }
+
+    void write(int i, Object object, Object val) {
+        writers[i].write(object, val);
+    }
+
+    private static java.lang.reflect.Constructor<?> constructor(Class<?> cls) {
+        try {
+            return cls.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static final class Writer {
+
+        private final String name;
+        private final Class<?> type;
+        private final Field target;
+        // The field's type, boxed
+        private final Class<?> boxed;
+        // (Object, Object)void, null when the field can only be written with Field.set() (static final fields)
+        private final MethodHandle setter;
+        // For primitive fields: a setter widening the last wrapper type seen that isn't 'boxed' (e.g. Integer
+        // for a long field), so mixing types costs a handle lookup, never an exception
+        private volatile Widening widening;
+
+        Writer(String name, Class<?> type, Field target) {
+            this.name = name;
+            this.type = type;
+            this.target = target;
+            this.boxed = primitiveToWrapper(target.getType());
+            target.setAccessible(true);
+            this.setter = setter(target);
+        }
+
+        void write(Object object, Object val) {
+            MethodHandle handle = handle(val);
+            if (handle != null) {
+                try {
+                    handle.invokeExact(object, val);
+                    return;
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            }
+            set(object, val);
+        }
+
+        // The setter that accepts 'val' without any failing conversion, null when only Field.set() can tell
+        private MethodHandle handle(Object val) {
+            if (setter == null) {
+                return null;
+            }
+            if (!target.getType().isPrimitive()) {
+                return (val == null || boxed.isInstance(val)) ? setter : null;
+            }
+            if (val == null) {
+                return null;
+            }
+            Class<?> valType = val.getClass();
+            if (valType == boxed) {
+                return setter;
+            }
+            Widening current = widening;
+            if (current != null && current.from == valType) {
+                return current.setter;
+            }
+            if (!isAssignable(valType, target.getType(), true)) {
+                return null;
+            }
+            MethodHandle widened = rawSetter(target)
+                    .asType(MethodType.methodType(void.class, Object.class, valType))
+                    .asType(SETTER_TYPE);
+            widening = new Widening(valType, widened);
+            return widened;
+        }
+
+        private void set(Object object, Object val) {
+            try {
+                target.set(object, val);
+            } catch (IllegalAccessException e) {
+                String fmt = template(CANNOT_SET_FIELD_WITH_VALUE)
+                        .arg("cls", type)
+                        .arg("field", name)
+                        .arg("val", val)
+                        .fmt();
+                throw new IllegalArgumentException(fmt, e);
+            }
+        }
+
+        private static MethodHandle setter(Field field) {
+            MethodHandle setter = rawSetter(field);
+            return setter == null ? null : setter.asType(SETTER_TYPE);
+        }
+
+        // (Object, <field type>)void
+        private static MethodHandle rawSetter(Field field) {
+            MethodHandle setter;
+            try {
+                setter = MethodHandles.lookup().unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                return MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(setter.type().changeParameterType(0, Object.class));
+        }
+    }
+
+    private static final class Widening {
+        private final Class<?> from;
+        private final MethodHandle setter;
+
+        private Widening(Class<?> from, MethodHandle setter) {
+            this.from = from;
+            this.setter = setter;
+        }
+    }
+}
@@ -17,26 +17,45 @@ package net.andreinc.mockneat.unit.regex;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
-import com.mifmif.common.regex.Generex;
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
 
+import java.util.Random;
 import java.util.function.Supplier;
 
 import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
-import static net.andreinc.mockneat.utils.ValidationUtils.validRegex;
 
-public class Regex implements MockUnitString {
+public class Regex extends MockUnitBase implements MockUnitString {
 
+    private final Random random;
     private final String regex;
 
+    // Looked up in the shared cache by the first supplier() call, then reused by every value
+    private volatile RegexAutomaton automaton;
+
     public Regex(String regex) {
+        this(MockNeat.threadLocal(), regex);
+    }
+
+    public Regex(MockNeat mockNeat, String regex) {
+        super(mockNeat);
+        this.random = mockNeat.getRandom();
         this.regex = regex;
     }
 
     @Override
     public Supplier<String> supplier() {
         notNull(regex, "regex");
-        validRegex(regex);
-        return () -> new Generex(regex).random();
+        RegexAutomaton compiled = automaton();
+        return () -> compiled.next(random);
+    }
+
+    private RegexAutomaton automaton() {
+        RegexAutomaton compiled = automaton;
+        if (compiled == null) {
+            automaton = compiled = RegexAutomaton.of(regex);
+        }
+        return compiled;
     }
 }
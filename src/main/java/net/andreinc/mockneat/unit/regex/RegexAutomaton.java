@@ -0,0 +1,220 @@
+package net.andreinc.mockneat.unit.regex;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.andreinc.mockneat.utils.ValidationUtils.validRegex;
+
+/**
+ * A regular expression compiled into a flat, immutable transition table.
+ *
+ * The pattern is translated exactly like Generex does it (predefined character classes and {@code \Q...\E}
+ * quoting) and turned into a minimal DFA. {@link #next(Random)} performs the same random walk as
+ * {@code Generex.random()}, but it reads only final arrays, so one instance can be shared by every thread.
+ *
+ * {@link #of(String)} keeps the most recently used automata in a process-wide cache keyed by pattern. Lookups don't
+ * lock; once the cache holds more than {@link #CACHE_SIZE} patterns, inserts evict the least recently used one, so
+ * the bound can be briefly exceeded by concurrent inserts. Callers are expected to look a pattern up once and keep
+ * the automaton, not once per generated value.
+ */
+public final class RegexAutomaton {
+
+    static final int CACHE_SIZE = 256;
+
+    private static final Map<String, Cached> CACHE = new ConcurrentHashMap<>();
+
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES = new HashMap<>();
+    static {
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\d", "[0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\D", "[^0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\s", "[ \t\n\f\r]");
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\S", "[^ \t\n\f\r]");
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\w", "[a-zA-Z_0-9]");
+        PREDEFINED_CHARACTER_CLASSES.put("\\\\W", "[^a-zA-Z_0-9]");
+    }
+
+    private static final Pattern QUOTED = Pattern.compile("\\\\Q(.*?)\\\\E");
+    private static final Pattern SPECIAL = Pattern.compile("[.^$*+?(){|\\[\\\\@]");
+
+    // Generex stops in an accepting state when nextInt() > 0.3 * Integer.MAX_VALUE (~35% of the time)
+    private static final int STOP_THRESHOLD = 644245094;
+
+    private final String regex;
+
+    private final boolean[] accept;
+    // Transitions of state s are [first[s], first[s + 1])
+    private final int[] first;
+    private final char[] min;
+    private final int[] span;
+    private final int[] dest;
+
+    private RegexAutomaton(String regex, Automaton automaton) {
+        this.regex = regex;
+
+        State initial = automaton.getInitialState();
+        Set<State> states = automaton.getStates();
+        Map<State, Integer> ids = new HashMap<>();
+        ids.put(initial, 0);
+        for (State state : states) {
+            if (!ids.containsKey(state)) {
+                ids.put(state, ids.size());
+            }
+        }
+
+        State[] byId = new State[ids.size()];
+        ids.forEach((state, id) -> byId[id] = state);
+
+        int transitions = 0;
+        for (State state : byId) {
+            transitions += state.getTransitions().size();
+        }
+
+        this.accept = new boolean[byId.length];
+        this.first = new int[byId.length + 1];
+        this.min = new char[transitions];
+        this.span = new int[transitions];
+        this.dest = new int[transitions];
+
+        int t = 0;
+        for (int s = 0; s < byId.length; s++) {
+            accept[s] = byId[s].isAccept();
+            first[s] = t;
+            List<Transition> sorted = byId[s].getSortedTransitions(false);
+            for (Transition tr : sorted) {
+                min[t] = tr.getMin();
+                span[t] = tr.getMax() - tr.getMin() + 1;
+                dest[t] = ids.get(tr.getDest());
+                t++;
+            }
+        }
+        first[byId.length] = t;
+    }
+
+    public static RegexAutomaton of(String regex) {
+        Cached cached = CACHE.get(regex);
+        if (cached == null) {
+            // Compiled outside of any lock; two threads missing on the same pattern both compile it and one wins
+            Cached compiled = new Cached(compile(regex), CLOCK.incrementAndGet());
+            cached = CACHE.putIfAbsent(regex, compiled);
+            if (cached == null) {
+                if (CACHE.size() > CACHE_SIZE) {
+                    evictEldest();
+                }
+                return compiled.automaton;
+            }
+        }
+        cached.lastUse = CLOCK.incrementAndGet();
+        return cached.automaton;
+    }
+
+    // Only runs on inserts past the bound, a scan of the CACHE_SIZE entries is cheap compared to a compilation
+    private static void evictEldest() {
+        Map.Entry<String, Cached> eldest = null;
+        for (Map.Entry<String, Cached> entry : CACHE.entrySet()) {
+            if (eldest == null || entry.getValue().lastUse < eldest.getValue().lastUse) {
+                eldest = entry;
+            }
+        }
+        if (eldest != null) {
+            CACHE.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    public static RegexAutomaton compile(String regex) {
+        validRegex(regex);
+        String translated = requote(regex);
+        for (Map.Entry<String, String> cls : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+            translated = translated.replaceAll(cls.getKey(), cls.getValue());
+        }
+        return new RegexAutomaton(regex, new RegExp(translated).toAutomaton());
+    }
+
+    private static String requote(String regex) {
+        StringBuffer buff = new StringBuffer();
+        Matcher matcher = QUOTED.matcher(regex);
+        while (matcher.find()) {
+            String quoted = SPECIAL.matcher(matcher.group(1)).replaceAll("\\\\$0");
+            matcher.appendReplacement(buff, Matcher.quoteReplacement(quoted));
+        }
+        matcher.appendTail(buff);
+        return buff.toString();
+    }
+
+    public String regex() {
+        return regex;
+    }
+
+    public int states() {
+        return accept.length;
+    }
+
+    public String next(Random random) {
+        StringBuilder buff = new StringBuilder(16);
+        int state = 0;
+        while (true) {
+            if (accept[state] && buff.length() > 0 && random.nextInt() > STOP_THRESHOLD) {
+                break;
+            }
+            int from = first[state];
+            int count = first[state + 1] - from;
+            if (count == 0) {
+                break;
+            }
+            int t = from + random.nextInt(count);
+            buff.append((char) (min[t] + random.nextInt(span[t])));
+            state = dest[t];
+        }
+        return buff.toString();
+    }
+
+    private static final class Cached {
+        private final RegexAutomaton automaton;
+        private volatile long lastUse;
+
+        private Cached(RegexAutomaton automaton, long lastUse) {
+            this.automaton = automaton;
+            this.lastUse = lastUse;
+        }
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    static boolean isCached(String regex) {
+        return CACHE.containsKey(regex);
+    }
+}
@@ -23,6 +23,9 @@ import net.andreinc.mockneat.abstraction.MockUnitString;
 import net.andreinc.mockneat.types.enums.DictType;
 import net.andreinc.mockneat.utils.file.FileManager;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import static net.andreinc.mockneat.utils.ValidationUtils.notEmptyOrNullValues;
 import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
 
@@ -36,14 +39,19 @@ public class Dicts extends MockUnitBase {
 
     public MockUnitString type(DictType type) {
         notNull(type, "type");
-        return () -> mockNeat.fromStrings(fm.getLines(type))::val;
+        Supplier<String> supp = () -> pick(type);
+        return () -> supp;
     }
 
     public MockUnitString types(DictType... types) {
         notEmptyOrNullValues(types, "types");
-        return () -> {
-            DictType type = mockNeat.from(types).val();
-            return mockNeat.fromStrings(fm.getLines(type))::val;
-        };
+        Supplier<String> supp = () -> pick(types[mockNeat.getRandom().nextInt(types.length)]);
+        return () -> supp;
+    }
+
+    private String pick(DictType type) {
+        // The dictionary is loaded lazily, on the first generated value
+        List<String> lines = fm.getLines(type);
+        return lines.get(mockNeat.getRandom().nextInt(lines.size()));
     }
 }
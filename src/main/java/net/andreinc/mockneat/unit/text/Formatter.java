@@ -21,7 +21,9 @@ import net.andreinc.mockneat.abstraction.MockUnit;
 import net.andreinc.mockneat.abstraction.MockUnitString;
 import net.andreinc.mockneat.abstraction.MockValue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -36,6 +38,9 @@ public class Formatter implements MockUnitString {
     private final Map<String, MockValue> fields = new HashMap<>();
     private final String fmt;
 
+    // Compiled lazily from 'fmt' and 'fields', reset every time a param is added
+    private volatile Template template;
+
     private Formatter(String fmt) {
         this.fmt = fmt;
     }
@@ -50,11 +55,20 @@ public class Formatter implements MockUnitString {
         notNull(mock, "mock");
         isTrue(isAlphanumeric(param), INPUT_PARAM_ALPHANUMERIC, "input", param);
         this.fields.put(param, unit(mock));
+        this.template = null;
         return this;
     }
 
     @Override
     public Supplier<String> supplier() {
+        Template tmpl = template;
+        if (tmpl == null) {
+            template = tmpl = Template.compile(fmt, fields);
+        }
+        if (tmpl != Template.UNSUPPORTED) {
+            Template compiled = tmpl;
+            return compiled::render;
+        }
         return () -> {
             Map<String, Object> args = fields.entrySet()
                                              .stream()
@@ -63,4 +77,91 @@ public class Formatter implements MockUnitString {
             return template(fmt, args).fmt();
         };
     }
+
+    /**
+     * The format split into literals and #{param} placeholders.
+     *
+     * Every param is evaluated once per value, in the same order as before and even if the format doesn't
+     * reference it, so the results are identical to formatting with aleph. Formats that use the escape
+     * character, a '#' that doesn't open a placeholder, unknown or dotted params, or unterminated placeholders
+     * are left to aleph.
+     */
+    private static final class Template {
+
+        static final Template UNSUPPORTED = new Template(null, null, null, 0);
+
+        private final MockValue[] values;
+        // literals[i] is followed by the value of slots[i]; the last literal has no slot
+        private final String[] literals;
+        private final int[] slots;
+        private final int literalsLength;
+
+        private Template(MockValue[] values, String[] literals, int[] slots, int literalsLength) {
+            this.values = values;
+            this.literals = literals;
+            this.slots = slots;
+            this.literalsLength = literalsLength;
+        }
+
+        static Template compile(String fmt, Map<String, MockValue> fields) {
+            if (fmt.indexOf('`') >= 0) {
+                return UNSUPPORTED;
+            }
+            for (int i = fmt.indexOf('#'); i >= 0; i = fmt.indexOf('#', i + 1)) {
+                if (i + 1 == fmt.length() || fmt.charAt(i + 1) != '{') {
+                    return UNSUPPORTED;
+                }
+            }
+
+            MockValue[] values = new MockValue[fields.size()];
+            Map<String, Integer> indexes = new HashMap<>();
+            for (Map.Entry<String, MockValue> field : fields.entrySet()) {
+                indexes.put(field.getKey(), indexes.size());
+                values[indexes.size() - 1] = field.getValue();
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int literalsLength = 0;
+            int from = 0;
+            int start;
+            while ((start = fmt.indexOf("#{", from)) >= 0) {
+                int end = fmt.indexOf('}', start + 2);
+                if (end < 0) {
+                    return UNSUPPORTED;
+                }
+                Integer slot = indexes.get(fmt.substring(start + 2, end));
+                if (slot == null) {
+                    return UNSUPPORTED;
+                }
+                literals.add(fmt.substring(from, start));
+                literalsLength += start - from;
+                slots.add(slot);
+                from = end + 1;
+            }
+            literals.add(fmt.substring(from));
+            literalsLength += fmt.length() - from;
+
+            return new Template(values,
+                                literals.toArray(new String[0]),
+                                slots.stream().mapToInt(Integer::intValue).toArray(),
+                                literalsLength);
+        }
+
+        String render() {
+            String[] strs = new String[values.length];
+            int length = literalsLength;
+            for (int i = 0; i < values.length; i++) {
+                strs[i] = values[i].getStr();
+            }
+            for (int slot : slots) {
+                length += strs[slot].length();
+            }
+            StringBuilder buff = new StringBuilder(length);
+            for (int i = 0; i < slots.length; i++) {
+                buff.append(literals[i]).append(strs[slots[i]]);
+            }
+            return buff.append(literals[slots.length]).toString();
+        }
+    }
 }
@@ -21,20 +21,72 @@ import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
 import net.andreinc.mockneat.utils.file.FileManager;
+import net.andreinc.mockneat.utils.file.MappedLines;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static net.andreinc.mockneat.types.enums.StringFormatType.LOWER_CASE;
+import static net.andreinc.mockneat.unit.types.Longs.nextLong;
 import static net.andreinc.mockneat.utils.ValidationUtils.notEmpty;
 
 public class FromFiles extends MockUnitBase {
 
+    private static final long STALE_CHECK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final FileManager fm = FileManager.getInstance();
 
     public FromFiles(MockNeat mockNeat) {
         super(mockNeat);
     }
 
+    // Every value goes through the cache: hits don't write shared state, and evicted files are really freed
     public MockUnitString from(String path) {
         notEmpty(path, "path");
-        return () -> mockNeat.fromStrings(fm.getLines(path)).format(LOWER_CASE)::val;
+        Supplier<String> supp = () -> {
+            List<String> lines = fm.getLines(path);
+            return lines.get(mockNeat.getRandom().nextInt(lines.size()));
+        };
+        MockUnitString unit = () -> supp;
+        return unit.format(LOWER_CASE);
+    }
+
+    // For files too big to be kept in memory: lines are read from the memory-mapped file through an index.
+    // The mapping is resolved by the first value and checked for changes of the file at most once per second.
+    public MockUnitString mapped(String path) {
+        notEmpty(path, "path");
+        Random random = mockNeat.getRandom();
+        Supplier<String> supp = new Supplier<String>() {
+            private volatile Mapping mapping;
+
+            @Override
+            public String get() {
+                Mapping current = mapping;
+                long now = System.nanoTime();
+                if (current == null || now - current.checked >= STALE_CHECK_NANOS) {
+                    mapping = current = new Mapping(fm.getMappedLines(path), now);
+                }
+                MappedLines lines = current.lines;
+                long size = lines.size();
+                long line = size <= Integer.MAX_VALUE ?
+                        random.nextInt((int) size) :
+                        nextLong(random, size);
+                return lines.get(line);
+            }
+        };
+        MockUnitString unit = () -> supp;
+        return unit.format(LOWER_CASE);
+    }
+
+    private static final class Mapping {
+        private final MappedLines lines;
+        private final long checked;
+
+        private Mapping(MappedLines lines, long checked) {
+            this.lines = lines;
+            this.checked = checked;
+        }
     }
 }
@@ -21,14 +21,13 @@ import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
 import net.andreinc.mockneat.types.enums.MarkovChainType;
-import net.andreinc.mockneat.unit.text.markov.MarkovUnit;
+import net.andreinc.mockneat.unit.text.markov.MarkovChain;
+import net.andreinc.mockneat.unit.text.markov.MarkovModels;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import static net.andreinc.mockneat.types.enums.MarkovChainType.KAFKA;
@@ -39,20 +38,19 @@ public class Markovs extends MockUnitBase implements MockUnitString {
 
     private static final Logger logger = LoggerFactory.getLogger(Markovs.class);
 
-    private final Map<MarkovChainType, MarkovUnit> markovUnits =  new EnumMap<>(MarkovChainType.class);
+    private static final int STATE_SIZE = 2;
 
     private int size = 512;
 
+    private volatile Supplier<String> kafka;
+
     public Markovs(MockNeat mockNeat) {
         super(mockNeat);
     }
 
-    private MarkovUnit get(MarkovChainType markovChainType) throws IOException {
-        if (!markovUnits.containsKey(markovChainType)) {
-            logger.info("Loading MarkovUnit in memory '{}'." , markovChainType.getFile());
-            markovUnits.put(markovChainType, MarkovUnit.internal(mockNeat, markovChainType, 2));
-        }
-        return markovUnits.get(markovChainType);
+    // The chains are shared by all the instances (see MarkovModels)
+    private MarkovChain get(MarkovChainType markovChainType) throws IOException {
+        return MarkovModels.get(markovChainType, STATE_SIZE);
     }
 
     public Markovs size(int size) {
@@ -63,7 +61,40 @@ public class Markovs extends MockUnitBase implements MockUnitString {
 
     @Override
     public Supplier<String> supplier() {
-        return type(KAFKA).supplier();
+        Supplier<String> supp = kafka;
+        if (supp == null) {
+            kafka = supp = type(KAFKA).supplier();
+        }
+        return supp;
+    }
+
+    /**
+     * Streams {@code length} chars of text to {@code out} (e.g.: a {@link java.io.Writer} or a
+     * {@link java.nio.CharBuffer}) without building it in memory first.
+     *
+     * @return the number of chars written
+     */
+    public long write(MarkovChainType type, Appendable out, long length) throws IOException {
+        notNull(type, "type");
+        return get(type).generate(mockNeat.getRandom(), out, length);
+    }
+
+    public long write(Appendable out, long length) throws IOException {
+        return write(KAFKA, out, length);
+    }
+
+    /**
+     * Streams {@code words} space separated words to {@code out}.
+     *
+     * @return the number of chars written
+     */
+    public long writeWords(MarkovChainType type, Appendable out, long words) throws IOException {
+        notNull(type, "type");
+        return get(type).generateWords(mockNeat.getRandom(), out, words);
+    }
+
+    public long writeWords(Appendable out, long words) throws IOException {
+        return writeWords(KAFKA, out, words);
     }
 
     public MockUnitString types(MarkovChainType... types) {
@@ -74,16 +105,32 @@ public class Markovs extends MockUnitBase implements MockUnitString {
 
     public MockUnitString type(MarkovChainType type) {
         notNull(type, "type");
-        Supplier<String> supp = () -> {
-            MarkovUnit unit;
-            try {
-                unit = get(type);
-                return unit.generateText(size);
-            } catch (IOException e) {
-                logger.error("Cannot load MarkovUnit chain of type '{}'.", type.name(), e);
-                throw new UncheckedIOException(e);
+        // The chain is looked up once, on the first value, and kept by the supplier
+        Supplier<String> supp = new Supplier<String>() {
+            private volatile MarkovChain chain;
+
+            @Override
+            public String get() {
+                return chain().generate(mockNeat.getRandom(), size);
+            }
+
+            private MarkovChain chain() {
+                MarkovChain current = chain;
+                if (current == null) {
+                    chain = current = load(type);
+                }
+                return current;
             }
         };
         return () -> supp;
     }
+
+    private MarkovChain load(MarkovChainType type) {
+        try {
+            return get(type);
+        } catch (IOException e) {
+            logger.error("Cannot load the Markov chain of type '{}'.", type.name(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -68,7 +68,7 @@ public class NaughtyStrings extends MockUnitBase implements MockUnitString {
 
     @Override
     public Supplier<String> supplier() {
-        return mockNeat.from(mockUnitStrings).val().supplier();
+        return () -> mockUnitStrings.get(mockNeat.getRandom().nextInt(mockUnitStrings.size())).val();
     }
 
     public MockUnitString cveVulnerabilities() {
@@ -20,25 +20,27 @@ package net.andreinc.mockneat.unit.text;
 import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitString;
+import net.andreinc.mockneat.alphabets.CharAlphabet;
 import net.andreinc.mockneat.types.enums.StringType;
 
+import java.nio.CharBuffer;
 import java.util.Random;
 import java.util.function.Supplier;
 
-import static net.andreinc.mockneat.alphabets.Alphabets.HEXA_STR;
-import static net.andreinc.mockneat.alphabets.Alphabets.SPECIAL_CHARACTERS_STR;
-import static java.util.stream.Collectors.joining;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
-import static org.apache.commons.lang3.RandomStringUtils.random;
 
 public class Strings extends MockUnitBase implements MockUnitString {
 
     private final Random random;
     private int size = 64;
 
+    // Reads 'size' on every call, so it can be built only once
+    private final Supplier<String> alphaNumeric;
+
     public Strings(MockNeat mockNeat) {
         super(mockNeat);
         this.random = mockNeat.getRandom();
+        this.alphaNumeric = fromAlphabet(CharAlphabet.ALPHA_NUMERIC);
     }
 
     public Strings size(int size) {
@@ -49,14 +51,8 @@ public class Strings extends MockUnitBase implements MockUnitString {
 
     public MockUnitString type(StringType type) {
         notNull(type, INPUT_PARAMETER_NOT_NULL, "type");
-        switch (type) {
-            case HEX: return this::hex;
-            case NUMBERS: return this::numbers;
-            case LETTERS: return this::letters;
-            case ALPHA_NUMERIC: return this::alphaNumeric;
-            case SPECIAL_CHARACTERS: return this::specialChars;
-        }
-        throw new IllegalArgumentException("Invalid StringType");
+        Supplier<String> supp = type == StringType.ALPHA_NUMERIC ? alphaNumeric : fromAlphabet(alphabet(type));
+        return () -> supp;
     }
 
     public MockUnitString types(StringType... types) {
@@ -65,34 +61,52 @@ public class Strings extends MockUnitBase implements MockUnitString {
         return type(type);
     }
 
-    private Supplier<String> numbers() {
-        return () -> random(size, 0, 0, false, true, null, random);
+    /**
+     * Fills the array with random characters of the given type, without allocating anything.
+     */
+    public void fill(StringType type, char[] dst) {
+        notNull(type, "type");
+        alphabet(type).fill(random, dst);
+    }
+
+    public void fill(StringType type, char[] dst, int offset, int length) {
+        notNull(type, "type");
+        alphabet(type).fill(random, dst, offset, length);
     }
 
-    private Supplier<String> letters() {
-        return () -> random(size, 0, 0, true, false, null, random);
+    /**
+     * Fills the buffer, from its position to its limit, with random characters of the given type.
+     */
+    public void fill(StringType type, CharBuffer dst) {
+        notNull(type, "type");
+        alphabet(type).fill(random, dst);
     }
 
-    private Supplier<String> alphaNumeric() {
-        return () -> random(size, 0, 0, true, true, null, random);
+    public void fill(char[] dst) {
+        fill(StringType.ALPHA_NUMERIC, dst);
     }
 
-    private Supplier<String> hex() {
-        return () -> mockNeat.fromStrings(HEXA_STR)
-                            .stream().val()
-                            .limit(size)
-                            .collect(joining());
+    public void fill(CharBuffer dst) {
+        fill(StringType.ALPHA_NUMERIC, dst);
+    }
+
+    private static CharAlphabet alphabet(StringType type) {
+        switch (type) {
+            case HEX: return CharAlphabet.HEXA;
+            case NUMBERS: return CharAlphabet.NUMBERS;
+            case LETTERS: return CharAlphabet.LETTERS;
+            case ALPHA_NUMERIC: return CharAlphabet.ALPHA_NUMERIC;
+            case SPECIAL_CHARACTERS: return CharAlphabet.SPECIAL_CHARACTERS;
+        }
+        throw new IllegalArgumentException("Invalid StringType");
     }
 
-    private Supplier<String> specialChars() {
-        return () -> mockNeat.fromStrings(SPECIAL_CHARACTERS_STR)
-                            .stream().val()
-                            .limit(size)
-                            .collect(joining());
+    private Supplier<String> fromAlphabet(CharAlphabet alphabet) {
+        return () -> alphabet.next(random, size);
     }
 
     @Override
     public Supplier<String> supplier() {
-        return () -> random(size, 0, 0, true, true, null, random);
+        return alphaNumeric;
     }
 }
@@ -78,22 +78,28 @@ public class Words extends MockUnitBase implements MockUnitString {
 
     @Override
     public Supplier<String> supplier() {
-        return mockNeat.from(all).val().supplier();
+        return anyOf(all).supplier();
     }
 
     public MockUnitString adjectives() {
-        return () -> mockNeat.from(adjectives).val().supplier();
+        return anyOf(adjectives);
     }
 
     public MockUnitString adverbs() {
-        return () -> mockNeat.from(adverbs).val().supplier();
+        return anyOf(adverbs);
     }
 
     public MockUnitString nouns() {
-        return () -> mockNeat.from(nouns).val().supplier();
+        return anyOf(nouns);
     }
 
     public MockUnitString verbs() {
-        return () -> mockNeat.from(verbs).val().supplier();
+        return anyOf(verbs);
+    }
+
+    // A different dictionary is picked for every value
+    private MockUnitString anyOf(List<MockUnitString> units) {
+        Supplier<String> supp = () -> units.get(mockNeat.getRandom().nextInt(units.size())).val();
+        return () -> supp;
     }
 }
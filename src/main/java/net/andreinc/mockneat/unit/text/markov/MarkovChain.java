@@ -0,0 +1,254 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.utils.file.PackedLines;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static net.andreinc.mockneat.utils.ValidationUtils.SIZE_BIGGER_THAN_ZERO;
+import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
+import static org.apache.commons.lang3.text.WordUtils.capitalize;
+
+/**
+ * Immutable word level Markov chain.
+ *
+ * Words are interned as {@code int} ids and every state (a window of {@code stateSize} ids) gets an {@code int} id.
+ * The transitions of a state are stored contiguously (CSR layout) with cumulative counts, so picking the next word
+ * is a binary search, and the state reached after each transition is precomputed, so generating text doesn't
+ * hash or allocate anything per word.
+ */
+public final class MarkovChain {
+
+    /**
+     * Binary form written by {@link #write(OutputStream)}, all values big-endian:
+     * magic, version, state size, the words (as {@link PackedLines}), state count, transition count,
+     * then the first, next, cumulative and target arrays.
+     */
+    public static final String EXTENSION = ".mnchain";
+
+    private static final int MAGIC = 0x4D4E4D43; // "MNMC"
+    private static final int VERSION = 1;
+
+    private final int stateSize;
+
+    // Word id -> word, and the word capitalized for the beginning of a sentence
+    private final String[] words;
+    private final String[] capitalized;
+    private final boolean[] endsSentence;
+
+    // Transitions of state s are in [first[s], first[s + 1])
+    private final int[] first;
+    private final int[] next;
+    private final int[] cumulative;
+    // State reached after the transition, -1 if the corpus ends there
+    private final int[] target;
+
+    MarkovChain(int stateSize, String[] words, int[] first, int[] next, int[] cumulative, int[] target) {
+        this.stateSize = stateSize;
+        this.words = words;
+        this.first = first;
+        this.next = next;
+        this.cumulative = cumulative;
+        this.target = target;
+        this.capitalized = new String[words.length];
+        this.endsSentence = new boolean[words.length];
+        for (int i = 0; i < words.length; i++) {
+            capitalized[i] = capitalize(words[i]);
+            endsSentence[i] = words[i].endsWith(".");
+        }
+    }
+
+    public static MarkovChain train(List<String> lines, int stateSize) {
+        notNull(lines, "lines");
+        return MarkovTrainer.train(lines, stateSize);
+    }
+
+    /**
+     * Trains the chain by streaming the (UTF-8) file in chunks that are processed in parallel on the common
+     * {@link ForkJoinPool}.
+     */
+    public static MarkovChain train(Path file, int stateSize) throws IOException {
+        notNull(file, "file");
+        return MarkovTrainer.train(file, stateSize, ForkJoinPool.commonPool(), MarkovTrainer.DEFAULT_CHUNK_BYTES);
+    }
+
+    public static MarkovChain read(ByteBuffer buffer) throws IOException {
+        notNull(buffer, "buffer");
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a Markov chain model (or unsupported version).");
+            }
+            int stateSize = buffer.getInt();
+            PackedLines lines = PackedLines.read(buffer);
+            String[] words = lines.toArray(new String[lines.size()]);
+            int states = buffer.getInt();
+            int transitions = buffer.getInt();
+            if (stateSize <= 0 || states <= 0 || transitions < states) {
+                throw new IOException("Corrupted Markov chain model header.");
+            }
+            int[] first = readInts(buffer, states + 1);
+            int[] next = readInts(buffer, transitions);
+            int[] cumulative = readInts(buffer, transitions);
+            int[] target = readInts(buffer, transitions);
+            // Generation trusts these arrays blindly, so check them once here
+            if (first[0] != 0 || first[states] != transitions) {
+                throw new IOException("Corrupted Markov chain model.");
+            }
+            for (int s = 0; s < states; s++) {
+                if (first[s] >= first[s + 1]) {
+                    throw new IOException("Corrupted Markov chain model.");
+                }
+                for (int t = first[s], prev = 0; t < first[s + 1]; prev = cumulative[t++]) {
+                    if (cumulative[t] <= prev || next[t] < 0 || next[t] >= words.length
+                            || target[t] < -1 || target[t] >= states) {
+                        throw new IOException("Corrupted Markov chain model.");
+                    }
+                }
+            }
+            return new MarkovChain(stateSize, words, first, next, cumulative, target);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated Markov chain model.", e);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int length) {
+        int[] result = new int[length];
+        buffer.asIntBuffer().get(result);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return result;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        notNull(out, "out");
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(stateSize);
+        PackedLines.of(words).write(data);
+        data.writeInt(states());
+        data.writeInt(next.length);
+        for (int[] values : new int[][]{ first, next, cumulative, target }) {
+            for (int value : values) {
+                data.writeInt(value);
+            }
+        }
+        data.flush();
+    }
+
+    public int getStateSize() {
+        return stateSize;
+    }
+
+    public int states() {
+        return first.length - 1;
+    }
+
+    public int words() {
+        return words.length;
+    }
+
+    public String generate(Random random, int maxLength) {
+        StringBuilder buff = new StringBuilder(Math.max(maxLength, 0));
+        try {
+            generate(random, buff, maxLength, Long.MAX_VALUE);
+        } catch (IOException e) {
+            // StringBuilder doesn't throw
+            throw new UncheckedIOException(e);
+        }
+        return buff.toString();
+    }
+
+    /**
+     * Writes exactly {@code maxLength} chars of text to {@code out}, the last word being cut if needed.
+     * Only the current word is held in memory, so the text can be much bigger than the heap.
+     *
+     * @return the number of chars written
+     */
+    public long generate(Random random, Appendable out, long maxLength) throws IOException {
+        notNull(out, "out");
+        isTrue(maxLength >= 0, SIZE_BIGGER_THAN_ZERO);
+        return generate(random, out, maxLength, Long.MAX_VALUE);
+    }
+
+    /**
+     * Writes {@code words} space separated words to {@code out}.
+     *
+     * @return the number of chars written
+     */
+    public long generateWords(Random random, Appendable out, long words) throws IOException {
+        notNull(out, "out");
+        isTrue(words >= 0, SIZE_BIGGER_THAN_ZERO);
+        return generate(random, out, Long.MAX_VALUE, words);
+    }
+
+    private long generate(Random random, Appendable out, long maxLength, long maxWords) throws IOException {
+        long written = 0;
+        long count = 0;
+        int state = random.nextInt(states());
+        boolean capitalize = true;
+        while (written < maxLength && count < maxWords) {
+            int t = nextTransition(state, random);
+            int word = next[t];
+            String text = capitalize ? capitalized[word] : words[word];
+            if (text.length() > maxLength - written) {
+                out.append(text, 0, (int) (maxLength - written));
+                return maxLength;
+            }
+            out.append(text);
+            written += text.length();
+            if (++count < maxWords && written < maxLength) {
+                out.append(' ');
+                written++;
+            }
+            capitalize = endsSentence[word];
+            state = target[t];
+            if (state < 0) {
+                // Dead end, restart from a random state
+                state = random.nextInt(states());
+            }
+        }
+        return written;
+    }
+
+    private int nextTransition(int state, Random random) {
+        int lo = first[state];
+        int hi = first[state + 1] - 1;
+        int r = random.nextInt(cumulative[hi]);
+        // First transition with cumulative[t] > r
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > r) { hi = mid; }
+            else { lo = mid + 1; }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,76 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.types.enums.MarkovChainType;
+import net.andreinc.mockneat.utils.file.PackedLines;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Build-time tool that trains the {@link MarkovChain} models of the bundled {@link MarkovChainType}s.
+ *
+ * Usage: {@code MarkovCompiler <resources dir> <output dir> <state size>...}. The corpus
+ * {@code <resources dir>/markov/<file>} is written to {@code <output dir>/markov/<file>.s<state size>.mnchain}
+ * for every state size.
+ */
+public final class MarkovCompiler {
+
+    private static final String MARKOV_FOLDER = "markov";
+
+    private MarkovCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: MarkovCompiler <resources dir> <output dir> <state size>...");
+        }
+        Path resources = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        int count = 0;
+        for (MarkovChainType type : MarkovChainType.values()) {
+            for (int i = 2; i < args.length; i++) {
+                compile(resources, output, type, Integer.parseInt(args[i]));
+                count++;
+            }
+        }
+        System.out.println("Compiled " + count + " Markov chains into " + output);
+    }
+
+    public static Path compile(Path resources, Path output, MarkovChainType type, int stateSize) throws IOException {
+        PackedLines lines;
+        try (BufferedReader reader = Files.newBufferedReader(resources.resolve(MARKOV_FOLDER).resolve(type.getFile()), UTF_8)) {
+            lines = PackedLines.pack(reader);
+        }
+        MarkovChain chain = MarkovChain.train(lines, stateSize);
+        Path target = output.resolve(MARKOV_FOLDER).resolve(MarkovModels.modelName(type.getFile(), stateSize));
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            chain.write(out);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,234 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.types.enums.MarkovChainType;
+import net.andreinc.mockneat.utils.file.FileManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Loads {@link MarkovChain} models without re-training them when possible.
+ *
+ * The bundled corpora have their models precompiled at build time (see {@link MarkovCompiler}). Models trained
+ * from external corpora are saved in the temp directory by default, or next to the corpus
+ * ({@code <file>.s<stateSize>.mnchain}) when the {@value #SIDECAR_MODEL_PROPERTY} system property is
+ * {@code true}, and reused for as long as the size and the last modified time of the corpus don't change.
+ *
+ * {@link #get(MarkovChainType, int)} and {@link #get(String, int)} keep the loaded chains in a process-wide
+ * registry keyed by corpus and state size, so every {@code Markovs} and every thread shares a single model.
+ * Chains of external corpora are replaced once the size or the last modified time of the corpus changes.
+ */
+public final class MarkovModels {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarkovModels.class);
+
+    private static final FileManager fm = FileManager.getInstance();
+
+    private static final String MARKOV_FOLDER = "markov/";
+
+    public static final String SIDECAR_MODEL_PROPERTY = "mockneat.markov.sidecarModel";
+
+    // Same as FileManager: lookups go through get() first, computeIfAbsent() makes concurrent first callers
+    // wait for a single load
+    private static final Map<String, Registered> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final long CACHE_MAGIC = 0x4D4E4D4343L; // "MNMCC"
+    private static final int CACHE_HEADER_BYTES = 3 * Long.BYTES;
+
+    private MarkovModels() {}
+
+    public static String modelName(String file, int stateSize) {
+        return file + ".s" + stateSize + MarkovChain.EXTENSION;
+    }
+
+    public static MarkovChain get(MarkovChainType type, int stateSize) throws IOException {
+        return register("internal:" + type.name() + ":" + stateSize, "", () -> internal(type, stateSize));
+    }
+
+    public static MarkovChain get(String path, int stateSize) throws IOException {
+        Path file = Paths.get(path).toAbsolutePath();
+        String version = Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+        return register("external:" + file + ":" + stateSize, version, () -> external(path, stateSize));
+    }
+
+    // A registered chain is only returned for the same version of its corpus, otherwise it is dropped and reloaded
+    private static MarkovChain register(String key, String version, ModelLoader loader) throws IOException {
+        Registered registered = REGISTRY.get(key);
+        if (registered != null) {
+            if (registered.version.equals(version)) {
+                return registered.chain;
+            }
+            REGISTRY.remove(key, registered);
+        }
+        try {
+            return REGISTRY.computeIfAbsent(key, k -> {
+                try {
+                    return new Registered(loader.load(), version);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).chain;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static MarkovChain internal(MarkovChainType type, int stateSize) throws IOException {
+        String model = MARKOV_FOLDER + modelName(type.getFile(), stateSize);
+        ByteBuffer buffer = fm.readResource(model);
+        if (buffer != null) {
+            MarkovChain chain = MarkovChain.read(buffer);
+            logger.info("Loaded the precompiled Markov chain '{}'.", model);
+            return chain;
+        }
+        return train(type.getFile(), () -> MarkovChain.train(fm.read(type), stateSize));
+    }
+
+    public static MarkovChain external(String path, int stateSize) throws IOException {
+        Path file = Paths.get(path).toAbsolutePath();
+        long size = Files.size(file);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+
+        Path sidecar = sidecarModelFor(file, stateSize);
+        Path temp = tempModelFor(file, stateSize);
+        for (Path cache : new Path[]{ temp, sidecar }) {
+            MarkovChain chain = readCache(cache, size, modified, stateSize);
+            if (chain != null) {
+                logger.info("Loaded the Markov chain of '{}' from '{}'.", path, cache);
+                return chain;
+            }
+        }
+
+        // The corpus is streamed, it is never held in memory
+        MarkovChain chain = train(path, () -> MarkovChain.train(file, stateSize));
+        if (Boolean.getBoolean(SIDECAR_MODEL_PROPERTY)) {
+            try {
+                writeCache(chain, sidecar, size, modified);
+                return chain;
+            } catch (FileSystemException e) {
+                logger.info("Cannot write the Markov chain next to '{}', using '{}' instead.", file, temp);
+            } catch (IOException e) {
+                logger.warn("Cannot cache the Markov chain of '{}'.", path, e);
+                return chain;
+            }
+        }
+        try {
+            Files.createDirectories(temp.getParent());
+            writeCache(chain, temp, size, modified);
+        } catch (IOException e) {
+            logger.warn("Cannot cache the Markov chain of '{}'.", path, e);
+        }
+        return chain;
+    }
+
+    // Used unless the model is explicitly allowed next to the user's corpus
+    static Path tempModelFor(Path file, int stateSize) {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "mockneat-markov",
+                Integer.toHexString(file.toString().hashCode()) + "-" + modelName(file.getFileName().toString(), stateSize));
+    }
+
+    static Path sidecarModelFor(Path file, int stateSize) {
+        return Paths.get(modelName(file.toString(), stateSize));
+    }
+
+    private static MarkovChain train(String path, ModelLoader trainer) throws IOException {
+        long start = System.currentTimeMillis();
+        MarkovChain chain = trainer.load();
+        logger.info("Trained the Markov chain of '{}' in {} ms: {} words, {} states.",
+                path, System.currentTimeMillis() - start, chain.words(), chain.states());
+        return chain;
+    }
+
+    // Returns null when the cache is missing, stale or unreadable
+    private static MarkovChain readCache(Path cache, long size, long modified, int stateSize) {
+        if (!Files.isRegularFile(cache)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cache, READ)) {
+            ByteBuffer buffer = channel.map(READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < CACHE_HEADER_BYTES
+                    || buffer.getLong() != CACHE_MAGIC
+                    || buffer.getLong() != size
+                    || buffer.getLong() != modified) {
+                return null;
+            }
+            MarkovChain chain = MarkovChain.read(buffer);
+            return chain.getStateSize() == stateSize ? chain : null;
+        } catch (IOException e) {
+            logger.info("Ignoring the unreadable Markov chain cache '{}'.", cache, e);
+            return null;
+        }
+    }
+
+    private static void writeCache(MarkovChain chain, Path cache, long size, long modified) throws IOException {
+        Path tmp = Files.createTempFile(cache.toAbsolutePath().getParent(), "mockneat", MarkovChain.EXTENSION);
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            data.writeLong(CACHE_MAGIC);
+            data.writeLong(size);
+            data.writeLong(modified);
+            data.flush();
+            chain.write(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        try {
+            Files.move(tmp, cache, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, cache, REPLACE_EXISTING);
+        }
+    }
+
+    private static final class Registered {
+        private final MarkovChain chain;
+        private final String version;
+
+        private Registered(MarkovChain chain, String version) {
+            this.chain = chain;
+            this.version = version;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ModelLoader {
+        MarkovChain load() throws IOException;
+    }
+}
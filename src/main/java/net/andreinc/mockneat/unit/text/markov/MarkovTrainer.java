@@ -0,0 +1,490 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static org.apache.commons.lang3.StringUtils.lowerCase;
+
+/**
+ * Counts the transitions of a corpus and builds the {@link MarkovChain}.
+ *
+ * Files are split in chunks (at line boundaries) that are tokenized and counted in parallel, each one with its
+ * own word and state ids. The chunks are then merged in order, together with the windows spanning two chunks,
+ * so the ids (and the chain) are exactly the ones a sequential pass would produce. Memory depends on the number
+ * of distinct transitions, not on the size of the corpus.
+ */
+final class MarkovTrainer {
+
+    static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+
+    private final int stateSize;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> words = new ArrayList<>();
+    private final StateIndex states;
+    private final LongIntMap counts = new LongIntMap(1 << 12);
+
+    // The last (up to stateSize) tokens merged so far, the windows starting there end in the next chunk
+    private final int[] carry;
+    private int carried;
+
+    private MarkovTrainer(int stateSize) {
+        isTrue(stateSize > 0, "The state size '#{stateSize}' should be bigger than 0.", "stateSize", stateSize);
+        this.stateSize = stateSize;
+        this.states = new StateIndex(stateSize, 1 << 12);
+        this.carry = new int[stateSize];
+    }
+
+    static MarkovChain train(Iterable<String> lines, int stateSize) {
+        MarkovTrainer trainer = new MarkovTrainer(stateSize);
+        Chunk chunk = new Chunk(stateSize);
+        lines.forEach(chunk::line);
+        trainer.merge(chunk);
+        return trainer.build();
+    }
+
+    static MarkovChain train(Path file, int stateSize, ForkJoinPool pool, int chunkBytes) throws IOException {
+        MarkovTrainer trainer = new MarkovTrainer(stateSize);
+        long[] bounds = bounds(file, chunkBytes);
+        // Only a few chunks are read ahead of the merge, so memory stays bounded
+        int inFlight = Math.max(2, pool.getParallelism() * 2);
+        Deque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+        int next = 0;
+        try {
+            while (next < bounds.length - 1 || !pending.isEmpty()) {
+                while (next < bounds.length - 1 && pending.size() < inFlight) {
+                    long start = bounds[next];
+                    long end = bounds[++next];
+                    pending.add(pool.submit(() -> {
+                        try {
+                            return Chunk.read(file, start, end, stateSize);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+                }
+                trainer.merge(pending.poll().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while training the Markov chain of '" + file + "'.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+        return trainer.build();
+    }
+
+    // Chunk boundaries: every chunk but the last one ends right after a '\n'
+    private static long[] bounds(Path file, int chunkBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long size = channel.size();
+            LongList bounds = new LongList();
+            bounds.add(0);
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            long position = 0;
+            while (position < size) {
+                position = Math.min(position + chunkBytes, size);
+                scan:
+                while (position < size) {
+                    buffer.clear();
+                    int read = channel.read(buffer, position);
+                    for (int i = 0; i < read; i++) {
+                        if (buffer.get(i) == '\n') {
+                            position += i + 1;
+                            break scan;
+                        }
+                    }
+                    position += Math.max(read, 0);
+                }
+                bounds.add(position);
+            }
+            return bounds.toArray();
+        }
+    }
+
+    private void merge(Chunk chunk) {
+        int[] wordIds = new int[chunk.words.size()];
+        for (int i = 0; i < wordIds.length; i++) {
+            String word = chunk.words.get(i);
+            Integer id = ids.get(word);
+            if (null == id) {
+                id = words.size();
+                ids.put(word, id);
+                words.add(word);
+            }
+            wordIds[i] = id;
+        }
+
+        // Windows starting in the previous chunks and ending in this one come first, as in the token stream
+        int[] joined = Arrays.copyOf(carry, carried + chunk.headSize);
+        for (int i = 0; i < chunk.headSize; i++) {
+            joined[carried + i] = wordIds[chunk.head[i]];
+        }
+        for (int j = 0; j + stateSize < joined.length && j < carried; j++) {
+            int state = states.intern(joined, j);
+            counts.add(((long) state << 32) | joined[j + stateSize], 1);
+        }
+
+        int[] stateIds = new int[chunk.states.size()];
+        int[] window = new int[stateSize];
+        for (int s = 0; s < stateIds.length; s++) {
+            for (int i = 0; i < stateSize; i++) {
+                window[i] = wordIds[chunk.states.words[s * stateSize + i]];
+            }
+            stateIds[s] = states.intern(window, 0);
+        }
+        LongIntMap local = chunk.counts;
+        for (int slot = 0; slot < local.values.length; slot++) {
+            if (local.values[slot] != 0) {
+                long key = local.keys[slot];
+                counts.add(((long) stateIds[(int) (key >>> 32)] << 32) | wordIds[(int) key], local.values[slot]);
+            }
+        }
+
+        // The new carry is made of the last stateSize tokens of (carry + chunk)
+        int[] tail = new int[chunk.recentSize];
+        for (int i = 0; i < tail.length; i++) {
+            tail[i] = wordIds[chunk.recent[i]];
+        }
+        int keep = Math.min(carried, stateSize - tail.length);
+        System.arraycopy(carry, carried - keep, carry, 0, keep);
+        System.arraycopy(tail, 0, carry, keep, tail.length);
+        carried = keep + tail.length;
+    }
+
+    private MarkovChain build() {
+        int count = states.size();
+        if (count == 0) {
+            throw new IllegalArgumentException("Not enough words to build a Markov chain with a state of size " + stateSize + ".");
+        }
+        long[] transitions = counts.keys();
+        Arrays.sort(transitions);
+
+        int[] first = new int[count + 1];
+        int[] next = new int[transitions.length];
+        int[] cumulative = new int[transitions.length];
+        int previous = -1;
+        int total = 0;
+        for (int t = 0; t < transitions.length; t++) {
+            int state = (int) (transitions[t] >>> 32);
+            if (state != previous) {
+                first[state] = t;
+                previous = state;
+                total = 0;
+            }
+            next[t] = (int) transitions[t];
+            total += counts.get(transitions[t]);
+            cumulative[t] = total;
+        }
+        first[count] = transitions.length;
+
+        int[] target = new int[transitions.length];
+        int[] window = new int[stateSize];
+        for (int s = 0; s < count; s++) {
+            System.arraycopy(states.words, s * stateSize + 1, window, 0, stateSize - 1);
+            for (int t = first[s]; t < first[s + 1]; t++) {
+                window[stateSize - 1] = next[t];
+                target[t] = states.find(window, 0);
+            }
+        }
+
+        return new MarkovChain(stateSize, words.toArray(new String[words.size()]), first, next, cumulative, target);
+    }
+
+    // Transition counts of a part of the corpus, with its own word and state ids
+    static final class Chunk {
+
+        private final int stateSize;
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> words = new ArrayList<>();
+        private final StateIndex states;
+        private final LongIntMap counts = new LongIntMap(1 << 10);
+
+        // The first and the last (up to stateSize) tokens, for the windows spanning two chunks
+        private final int[] head;
+        private int headSize;
+        private final int[] recent;
+        private int recentSize;
+
+        Chunk(int stateSize) {
+            this.stateSize = stateSize;
+            this.states = new StateIndex(stateSize, 1 << 10);
+            this.head = new int[stateSize];
+            this.recent = new int[stateSize];
+        }
+
+        static Chunk read(Path file, long start, long end, int stateSize) throws IOException {
+            if (end - start > Integer.MAX_VALUE - 8) {
+                throw new IOException("Line too long in '" + file + "' at byte " + start + ".");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            try (FileChannel channel = FileChannel.open(file, READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        throw new EOFException("'" + file + "' was truncated while reading it.");
+                    }
+                }
+            }
+            // Chunks end with a '\n', so no multi-byte sequence is split
+            String text = new String(buffer.array(), UTF_8);
+            Chunk chunk = new Chunk(stateSize);
+            // Same line terminators as BufferedReader.readLine(): "\n", "\r" or "\r\n"
+            int from = 0;
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    chunk.line(text.substring(from, i));
+                    if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    from = i + 1;
+                }
+            }
+            if (from < length) {
+                chunk.line(text.substring(from));
+            }
+            return chunk;
+        }
+
+        void line(String line) {
+            line = line.replace('"', ' ');
+            for (String word : line.split(" ")) {
+                if (!"".equals(word)) {
+                    token(lowerCase(word.trim()));
+                }
+            }
+        }
+
+        private void token(String word) {
+            Integer id = ids.get(word);
+            if (null == id) {
+                id = words.size();
+                ids.put(word, id);
+                words.add(word);
+            }
+            if (headSize < stateSize) {
+                head[headSize++] = id;
+            }
+            if (recentSize == stateSize) {
+                int state = states.intern(recent, 0);
+                counts.add(((long) state << 32) | id, 1);
+                System.arraycopy(recent, 1, recent, 0, stateSize - 1);
+                recent[stateSize - 1] = id;
+            } else {
+                recent[recentSize++] = id;
+            }
+        }
+    }
+
+    // Open addressing table from a window of word ids to a state id
+    static final class StateIndex {
+
+        private final int stateSize;
+        private int[] slots;
+        private int mask;
+        private int[] words;
+        private int size;
+
+        StateIndex(int stateSize, int expected) {
+            this.stateSize = stateSize;
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            this.slots = new int[capacity];
+            this.mask = capacity - 1;
+            this.words = new int[Math.max(expected, 1) * stateSize];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int find(int[] tokens, int from) {
+            int slot = hash(tokens, from) & mask;
+            for (int id; (id = slots[slot]) != 0; slot = (slot + 1) & mask) {
+                if (matches(id - 1, tokens, from)) {
+                    return id - 1;
+                }
+            }
+            return -1;
+        }
+
+        int intern(int[] tokens, int from) {
+            int slot = hash(tokens, from) & mask;
+            for (int id; (id = slots[slot]) != 0; slot = (slot + 1) & mask) {
+                if (matches(id - 1, tokens, from)) {
+                    return id - 1;
+                }
+            }
+            int state = size++;
+            if (words.length < size * stateSize) {
+                words = Arrays.copyOf(words, words.length * 2);
+            }
+            System.arraycopy(tokens, from, words, state * stateSize, stateSize);
+            slots[slot] = state + 1;
+            if (size * 2 > slots.length) {
+                rehash();
+            }
+            return state;
+        }
+
+        private boolean matches(int state, int[] tokens, int from) {
+            int base = state * stateSize;
+            for (int i = 0; i < stateSize; i++) {
+                if (words[base + i] != tokens[from + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int hash(int[] tokens, int from) {
+            int h = 1;
+            for (int i = 0; i < stateSize; i++) {
+                h = 31 * h + tokens[from + i];
+            }
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private void rehash() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            mask = slots.length - 1;
+            for (int id : old) {
+                if (id != 0) {
+                    int slot = hash(words, (id - 1) * stateSize) & mask;
+                    while (slots[slot] != 0) { slot = (slot + 1) & mask; }
+                    slots[slot] = id;
+                }
+            }
+        }
+    }
+
+    // Open addressing (state, next word) -> count table, a count of 0 marks an empty slot
+    static final class LongIntMap {
+
+        private long[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        LongIntMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        void add(long key, int delta) {
+            int slot = slot(key);
+            if (values[slot] == 0) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += delta;
+            if (size * 2 > keys.length) {
+                rehash();
+            }
+        }
+
+        int get(long key) {
+            return values[slot(key)];
+        }
+
+        long[] keys() {
+            long[] result = new long[size];
+            for (int slot = 0, i = 0; slot < values.length; slot++) {
+                if (values[slot] != 0) {
+                    result[i++] = keys[slot];
+                }
+            }
+            return result;
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            int slot = (int) (h ^ (h >>> 32)) & mask;
+            while (values[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    int slot = slot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -22,10 +22,12 @@ import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitDouble;
 
 import java.util.Random;
+import java.util.function.DoubleSupplier;
 import java.util.function.Supplier;
 
 import static java.lang.Double.doubleToLongBits;
 import static java.lang.Double.longBitsToDouble;
+import static net.andreinc.mockneat.abstraction.MockUnitDouble.doubleUnit;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
 
 public class Doubles extends MockUnitBase implements MockUnitDouble {
@@ -44,8 +46,13 @@ public class Doubles extends MockUnitBase implements MockUnitDouble {
         return random::nextDouble;
     }
 
+    @Override
+    public DoubleSupplier doubleSupplier() {
+        return random::nextDouble;
+    }
+
     public MockUnitDouble gaussians() {
-        return () -> random::nextGaussian;
+        return doubleUnit(random::nextGaussian);
     }
 
     public MockUnitDouble range(double lowerBound, double upperBound) {
@@ -57,7 +64,7 @@ public class Doubles extends MockUnitBase implements MockUnitDouble {
         isTrue(upperBound>0.0, UPPER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound>lowerBound, UPPER_BOUND_BIGGER_LOWER_BOUND);
 
-        Supplier<Double> supp = () -> {
+        DoubleSupplier supp = () -> {
             // Algorithm implementation from the Java API
             double result = (random.nextLong() >>> 11) * DOUBLE_UNIT;
             if (lowerBound < upperBound) {
@@ -67,7 +74,7 @@ public class Doubles extends MockUnitBase implements MockUnitDouble {
             }
             return result;
         };
-        return () -> supp;
+        return doubleUnit(supp);
     }
 
     public MockUnitDouble bound(double bound) {
@@ -76,10 +83,10 @@ public class Doubles extends MockUnitBase implements MockUnitDouble {
 
     public MockUnitDouble from(double[] alphabet) {
         notEmpty(alphabet, "alphabet");
-        Supplier<Double> supp = () -> {
+        DoubleSupplier supp = () -> {
             int idx = random.nextInt(alphabet.length);
             return alphabet[idx];
         };
-        return () -> supp;
+        return doubleUnit(supp);
     }
 }
@@ -20,10 +20,12 @@ package net.andreinc.mockneat.unit.types;
 import net.andreinc.mockneat.MockNeat;
 import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitFloat;
+import net.andreinc.mockneat.types.FloatSupplier;
 
 import java.util.Random;
 import java.util.function.Supplier;
 
+import static net.andreinc.mockneat.abstraction.MockUnitFloat.floatUnit;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
 
 public class Floats extends MockUnitBase implements MockUnitFloat {
@@ -40,6 +42,11 @@ public class Floats extends MockUnitBase implements MockUnitFloat {
         return random::nextFloat;
     }
 
+    @Override
+    public FloatSupplier floatSupplier() {
+        return random::nextFloat;
+    }
+
     public MockUnitFloat range(float lowerBound, float upperBound) {
         notNull(lowerBound, "lowerBound");
         notNull(upperBound, "upperBound");
@@ -47,8 +54,8 @@ public class Floats extends MockUnitBase implements MockUnitFloat {
         isTrue(upperBound>0.0f, UPPER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound>lowerBound, UPPER_BOUND_BIGGER_LOWER_BOUND);
 
-        Supplier<Float> supp = () -> random.nextFloat() * (upperBound - lowerBound) + lowerBound;
-        return () -> supp;
+        FloatSupplier supp = () -> random.nextFloat() * (upperBound - lowerBound) + lowerBound;
+        return floatUnit(supp);
     }
 
     public MockUnitFloat bound(float bound) {
@@ -57,10 +64,10 @@ public class Floats extends MockUnitBase implements MockUnitFloat {
 
     public MockUnitFloat from(float[] alphabet) {
         notEmpty(alphabet, "alphabet");
-        Supplier<Float> supp = () -> {
+        FloatSupplier supp = () -> {
             int idx = random.nextInt(alphabet.length);
             return alphabet[idx];
         };
-        return () -> supp;
+        return floatUnit(supp);
     }
 }
@@ -22,8 +22,10 @@ import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitInt;
 
 import java.util.Random;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
+import static net.andreinc.mockneat.abstraction.MockUnitInt.intUnit;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
 
 public class Ints extends MockUnitBase implements MockUnitInt {
@@ -40,10 +42,15 @@ public class Ints extends MockUnitBase implements MockUnitInt {
         return random::nextInt;
     }
 
+    @Override
+    public IntSupplier intSupplier() {
+        return random::nextInt;
+    }
+
     public MockUnitInt bound(int bound) {
         isTrue(bound>=0, LOWER_BOUND_BIGGER_THAN_ZERO);
-        Supplier<Integer> supp = () -> random.nextInt(bound);
-        return () -> supp;
+        IntSupplier supp = () -> random.nextInt(bound);
+        return intUnit(supp);
     }
 
     public MockUnitInt range(int lowerBound, int upperBound) {
@@ -52,16 +59,16 @@ public class Ints extends MockUnitBase implements MockUnitInt {
         isTrue(lowerBound>=0, LOWER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound>0, UPPER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound>lowerBound, UPPER_BOUND_BIGGER_LOWER_BOUND);
-        Supplier<Integer> supp = () -> random.nextInt(upperBound - lowerBound) + lowerBound;
-        return () -> supp;
+        IntSupplier supp = () -> random.nextInt(upperBound - lowerBound) + lowerBound;
+        return intUnit(supp);
     }
 
     public MockUnitInt from(int[] alphabet) {
         notEmpty(alphabet, "alphabet");
-        Supplier<Integer> supp = () -> {
+        IntSupplier supp = () -> {
             int idx = random.nextInt(alphabet.length);
             return alphabet[idx];
         };
-        return () -> supp;
+        return intUnit(supp);
     }
 }
@@ -22,8 +22,10 @@ import net.andreinc.mockneat.abstraction.MockUnitBase;
 import net.andreinc.mockneat.abstraction.MockUnitLong;
 
 import java.util.Random;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import static net.andreinc.mockneat.abstraction.MockUnitLong.longUnit;
 import static net.andreinc.mockneat.utils.ValidationUtils.*;
 
 public class Longs extends MockUnitBase implements MockUnitLong {
@@ -40,19 +42,15 @@ public class Longs extends MockUnitBase implements MockUnitLong {
         return random::nextLong;
     }
 
+    @Override
+    public LongSupplier longSupplier() {
+        return random::nextLong;
+    }
+
     public MockUnitLong bound(long bound) {
         isTrue(bound>=0, LOWER_BOUND_BIGGER_THAN_ZERO);
-        Supplier<Long> supplier = () -> {
-            long b;
-            long result;
-            do {
-                b = (random.nextLong() << 1) >>> 1;
-                result = b % bound;
-            } while (b-result+bound-1 < 0L);
-
-            return result;
-        };
-        return () -> supplier;
+        LongSupplier supplier = () -> nextLong(bound);
+        return longUnit(supplier);
     }
 
     public MockUnitLong range(long lowerBound, long upperBound) {
@@ -61,18 +59,33 @@ public class Longs extends MockUnitBase implements MockUnitLong {
         isTrue(lowerBound >= 0, LOWER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound > 0, UPPER_BOUND_BIGGER_THAN_ZERO);
         isTrue(upperBound > lowerBound, UPPER_BOUND_BIGGER_LOWER_BOUND);
-        Supplier<Long> supplier = () ->
-                mockNeat.longs().bound(upperBound - lowerBound).val() + lowerBound;
-        return () -> supplier;
+        LongSupplier supplier = () -> nextLong(upperBound - lowerBound) + lowerBound;
+        return longUnit(supplier);
     }
 
     public MockUnitLong from(long[] alphabet) {
         notEmpty(alphabet, "alphabet");
-        Supplier<Long> supp = () -> {
+        LongSupplier supp = () -> {
             int idx = random.nextInt(alphabet.length);
             return alphabet[idx];
         };
-        return () -> supp;
+        return longUnit(supp);
+    }
+
+    private long nextLong(long bound) {
+        return nextLong(random, bound);
+    }
+
+    // Uniform in [0, bound), for bounds past Integer.MAX_VALUE
+    public static long nextLong(Random random, long bound) {
+        long b;
+        long result;
+        do {
+            b = (random.nextLong() << 1) >>> 1;
+            result = b % bound;
+        } while (b-result+bound-1 < 0L);
+
+        return result;
     }
 
 }
@@ -0,0 +1,116 @@
+package net.andreinc.mockneat.utils;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.types.enums.HashType;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Hex digests computed with per-thread {@link MessageDigest} instances and scratch buffers.
+ *
+ * The results are identical to commons-codec's {@code DigestUtils.*Hex} (lower case hex, UTF-8 for strings),
+ * but no digest is looked up and no intermediate array is allocated per call: the only allocation is the
+ * returned String.
+ */
+public final class Digests {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // The largest digest is SHA-512: 64 bytes, 128 hex chars
+    private static final int MAX_LENGTH = 64;
+
+    private static final Map<HashType, ThreadLocal<MessageDigest>> DIGESTS = new EnumMap<>(HashType.class);
+    static {
+        for (HashType type : HashType.values()) {
+            DIGESTS.put(type, ThreadLocal.withInitial(() -> newDigest(type)));
+        }
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final byte[] digest = new byte[MAX_LENGTH];
+        final char[] hex = new char[2 * MAX_LENGTH];
+    }
+
+    private Digests() {}
+
+    public static String hex(HashType type, String str) {
+        return hex(type, str.getBytes(UTF_8));
+    }
+
+    public static String hex(HashType type, byte[] bytes) {
+        return hex(type, bytes, 0, bytes.length);
+    }
+
+    public static String hex(HashType type, byte[] bytes, int offset, int length) {
+        MessageDigest md = DIGESTS.get(type).get();
+        Scratch scratch = SCRATCH.get();
+        md.update(bytes, offset, length);
+        int n;
+        try {
+            n = md.digest(scratch.digest, 0, scratch.digest.length);
+        } catch (DigestException e) {
+            md.reset();
+            throw new IllegalStateException(e);
+        }
+        return hex(scratch.digest, n, scratch.hex);
+    }
+
+    /**
+     * Random lower case hex with the length of a {@code type} hex digest, without hashing anything.
+     */
+    public static String randomHex(HashType type, Random random) {
+        char[] buff = SCRATCH.get().hex;
+        int length = 2 * type.getLength();
+        for (int i = 0; i < length; ) {
+            long bits = random.nextLong();
+            for (int j = 0; j < 16 && i < length; j++, i++) {
+                buff[i] = HEX[(int) (bits & 0xF)];
+                bits >>>= 4;
+            }
+        }
+        return new String(buff, 0, length);
+    }
+
+    private static String hex(byte[] digest, int length, char[] buff) {
+        for (int i = 0; i < length; i++) {
+            buff[2 * i] = HEX[(digest[i] >>> 4) & 0xF];
+            buff[2 * i + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(buff, 0, 2 * length);
+    }
+
+    private static MessageDigest newDigest(HashType type) {
+        try {
+            return MessageDigest.getInstance(type.getAlgorithm());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
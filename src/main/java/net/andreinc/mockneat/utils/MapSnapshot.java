@@ -0,0 +1,69 @@
+package net.andreinc.mockneat.utils;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Samples keys (or values) of a map that might change after the sampler was created.
+ *
+ * The keys are copied into an array that is refreshed only when the map size changes or when a sampled key
+ * is no longer present, so sampling a map that is not modified costs O(1).
+ */
+@SuppressWarnings("unchecked")
+public final class MapSnapshot<K, V> {
+
+    private final Map<K, V> map;
+    private volatile Object[] keys;
+
+    public MapSnapshot(Map<K, V> map) {
+        this.map = map;
+        this.keys = map.keySet().toArray();
+    }
+
+    public K randomKey(Random random) {
+        Object[] current = keys;
+        while (true) {
+            if (current.length != map.size()) {
+                current = refresh();
+            }
+            if (current.length == 0) {
+                throw new IllegalStateException("Cannot sample from an empty map.");
+            }
+            Object key = current[random.nextInt(current.length)];
+            if (map.containsKey(key)) {
+                return (K) key;
+            }
+            // Same size but different keys (a remove followed by a put)
+            current = refresh();
+        }
+    }
+
+    public V randomValue(Random random) {
+        return map.get(randomKey(random));
+    }
+
+    private Object[] refresh() {
+        Object[] current = map.keySet().toArray();
+        this.keys = current;
+        return current;
+    }
+}
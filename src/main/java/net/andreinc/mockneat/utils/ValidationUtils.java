@@ -58,6 +58,8 @@ public class ValidationUtils {
     public static final String JAVA_FIELD_REGEX_MATCH = "Field '#{field}' doesn't match the Java Naming Conventions for fields.";
     public static final String JAVA_METHOD_REGEX_MATCH = "Method '#{method}' doesn't match the Java Naming Conventions for methods.";
     public static final String JAVA_FIELD_IS_FINAL = "Field '#{field}' is marked as FINAL. It cannot be modified. Please remove it from the fields list.";
+    public static final String DEEP_DEPTH_BIGGER_THAN_ZERO = "The depth '#{depth}' should be bigger (>) than '0'.";
+    public static final String DEEP_RECURSION_BIGGER_THAN_ZERO = "The recursion limit '#{recursion}' should be bigger (>=) than '0'.";
     public static final String JAVA_FIELD_DOESNT_EXIST_ON_CLASS = "Cannot access field: '#{field}'.";
     public static final String INPUT_PARAM_ALPHANUMERIC = "Input param '#{input}' should be alpha-numeric.";
     public static final String INT_SEQ_OVERFLOW = "IntSeq overflow. Values are generated inside the interval: [#{min}, #{max}]. Cannot increment any further.";
@@ -68,6 +70,8 @@ public class ValidationUtils {
     public static final String INVALID_REGEX_PATTERN = "Invalid regex pattern ('#{pattern}'): ";
     public static final String OBJECT_NOT_SERIALIZABLE = "Object is not serializable. Does the add's class extends 'java.io.Serializable' ?";
     public static final String PROBABILITY_NOT_NEGATIVE = "Probability '#{prob}' should be bigger than '0.0'.";
+    public static final String WEIGHT_NOT_NEGATIVE = "Weight '#{weight}' should be a finite number bigger or equal (>=) than '0.0'.";
+    public static final String WEIGHTS_SUM_NOT_POSITIVE = "The sum of the weights '#{sum}' should be a finite number bigger (>) than '0.0'.";
     public static final String IMPOSSIBLE_TO_SEQ_OVER_EMPTY_COLLECTION = "Impossible to create a Seq from an empty Iterable<T>.";
     // MOCK SCENARIO
     public static final String RETURN_VALUE_MUST_MATCH_THE_TYPE = "The value added #{value} must match the given return type: #{retType}. `instanceof` validation fails.";
@@ -101,19 +105,7 @@ public class ValidationUtils {
     }
 
     public static <T extends CharSequence> T notEmpty(T chars, String input) {
-
-        String msg = template(INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "input", input)
-                        .fmt();
-
-        if (chars == null) {
-            throw new NullPointerException(msg);
-        }
-
-        if (chars.length() == 0) {
-            throw new IllegalArgumentException(msg);
-        }
-
-        return chars;
+        return notEmpty(chars, INPUT_PARAMETER_NOT_EMPTY_OR_NULL, "input", input);
     }
 
     public static <T> T[] notEmptyOrNullValues(T[] arr, String arrName) {
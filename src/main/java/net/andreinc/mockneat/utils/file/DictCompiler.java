@@ -0,0 +1,75 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Build-time tool that converts the text dictionaries into {@link PackedLines} binaries.
+ *
+ * Usage: {@code DictCompiler <resources dir> <output dir> <folder>...}. Every regular file found
+ * under {@code <resources dir>/<folder>} is written to the same relative path in the output dir,
+ * with the {@link PackedLines#EXTENSION} suffix.
+ */
+public final class DictCompiler {
+
+    private DictCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: DictCompiler <resources dir> <output dir> <folder>...");
+        }
+        Path resources = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        int count = 0;
+        for (int i = 2; i < args.length; i++) {
+            count += compile(resources, output, args[i]);
+        }
+        System.out.println("Compiled " + count + " dictionaries into " + output);
+    }
+
+    public static int compile(Path resources, Path output, String folder) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(resources.resolve(folder))) {
+            files = walk.filter(Files::isRegularFile).collect(toList());
+        }
+        for (Path file : files) {
+            Path target = output.resolve(resources.relativize(file).toString() + PackedLines.EXTENSION);
+            Files.createDirectories(target.getParent());
+            PackedLines lines;
+            try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+                lines = PackedLines.pack(reader);
+            }
+            try (OutputStream out = Files.newOutputStream(target)) {
+                lines.write(out);
+            }
+        }
+        return files.size();
+    }
+}
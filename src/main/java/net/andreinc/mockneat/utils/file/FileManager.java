@@ -23,19 +23,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static java.nio.charset.Charset.defaultCharset;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Paths.get;
-import static java.util.stream.Collectors.toList;
+import static java.nio.file.StandardOpenOption.READ;
 
 public class FileManager {
 
@@ -45,49 +53,105 @@ public class FileManager {
 
     private static final String MARKOV_FOLDER = "markov/";
 
+    public static final String EXTERNAL_CACHE_BUDGET_PROPERTY = "mockneat.files.cacheBytes";
+
+    public static final long DEFAULT_EXTERNAL_CACHE_BUDGET = 256L * 1024 * 1024;
+
     private static final FileManager fileManager = new FileManager();
 
     private static final ClassLoader loader = FileManager.getInstance().getClass().getClassLoader();
 
+    // Lookups go through get() first, so once a file is loaded reading it never locks;
+    // computeIfAbsent() makes sure concurrent first callers wait for a single load
     private static final Map<String, List<String>> JAR_INTERNAL =
-            new HashMap<>();
+            new ConcurrentHashMap<>();
+
+    // External files are not pinned: they are kept within a memory budget, least recently used first out
+    private static final WeightedLruCache<String, PackedLines> JAR_EXTERNAL =
+            new WeightedLruCache<>(Long.getLong(EXTERNAL_CACHE_BUDGET_PROPERTY, DEFAULT_EXTERNAL_CACHE_BUDGET), PackedLines::weight);
 
-    private static final Map<String, List<String>> JAR_EXTERNAL =
-            new HashMap<>();
+    private static final Map<String, MappedLines> MAPPED_EXTERNAL =
+            new ConcurrentHashMap<>();
 
     public static FileManager getInstance() {
         return fileManager;
     }
 
     public List<String> getLines(String path) {
-        if (!JAR_EXTERNAL.containsKey(path)) {
-            try {
-                List<String> lines = read(path);
-                logger.info("Loaded file '{}' in memory. The file contains {} lines.", path, lines.size());
-                JAR_EXTERNAL.put(path, lines);
-            } catch (IOException e) {
-                logger.error("Cannot read file '{}' in memory.", e);
-               throw new IllegalArgumentException(e);
+        try {
+            return JAR_EXTERNAL.get(path, this::loadExternal);
+        } catch (UncheckedIOException e) {
+            throw new IllegalArgumentException(e.getCause());
+        }
+    }
+
+    public void setExternalCacheBudget(long bytes) {
+        JAR_EXTERNAL.setBudget(bytes);
+    }
+
+    public WeightedLruCache.Stats getExternalCacheStats() {
+        return JAR_EXTERNAL.stats();
+    }
+
+    // Mappings of files that changed since they were opened are dropped and the file is mapped again.
+    // This stats the file, so callers sampling lines should keep the result for a while (see FromFiles.mapped)
+    public MappedLines getMappedLines(String path) {
+        MappedLines lines = MAPPED_EXTERNAL.get(path);
+        if (lines != null) {
+            if (!lines.isStale()) {
+                return lines;
             }
+            MAPPED_EXTERNAL.remove(path, lines);
+        }
+        try {
+            return MAPPED_EXTERNAL.computeIfAbsent(path, this::loadMapped);
+        } catch (UncheckedIOException e) {
+            throw new IllegalArgumentException(e.getCause());
         }
-        return JAR_EXTERNAL.get(path);
     }
 
     public List<String> getLines(DictType dictType) {
         String internal = getDictPath(dictType);
-        if (!JAR_INTERNAL.containsKey(internal)) {
-            try {
-                List<String> lines = read(dictType);
-                logger.info("Loading internal dictionary '{}' in memory. The dictionary contains {} lines",
-                        dictType.getFile(),
-                        lines.size());
-                JAR_INTERNAL.put(internal, lines);
-            } catch (IOException e) {
-                logger.error("Cannot read internal dictionary '{}' in memory. Something is terribly wrong.");
-                throw new UncheckedIOException(e);
-            }
+        List<String> lines = JAR_INTERNAL.get(internal);
+        if (lines != null) {
+            return lines;
+        }
+        return JAR_INTERNAL.computeIfAbsent(internal, k -> loadInternal(dictType));
+    }
+
+    private PackedLines loadExternal(String path) {
+        try {
+            PackedLines lines = read(path);
+            logger.info("Loaded file '{}' in memory. The file contains {} lines.", path, lines.size());
+            return lines;
+        } catch (IOException e) {
+            logger.error("Cannot read file '{}' in memory.", path, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedLines loadMapped(String path) {
+        try {
+            MappedLines lines = MappedLines.open(get(path));
+            logger.info("Mapped file '{}' in memory. The file contains {} lines.", path, lines.size());
+            return lines;
+        } catch (IOException e) {
+            logger.error("Cannot map file '{}' in memory.", path, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> loadInternal(DictType dictType) {
+        try {
+            List<String> lines = read(dictType);
+            logger.info("Loading internal dictionary '{}' in memory. The dictionary contains {} lines",
+                    dictType.getFile(),
+                    lines.size());
+            return lines;
+        } catch (IOException e) {
+            logger.error("Cannot read internal dictionary '{}' in memory. Something is terribly wrong.", dictType.getFile(), e);
+            throw new UncheckedIOException(e);
         }
-        return JAR_INTERNAL.get(internal);
     }
 
     private String getDictPath(DictType dictType) {
@@ -98,10 +162,51 @@ public class FileManager {
         return MARKOV_FOLDER + markovChainType.getFile();
     }
 
+    // Prefers the binary form generated at build time (see the compileDicts task), falling back to the text file
     private List<String> readInternal(String internal) throws IOException {
-        try (BufferedReader buff = new BufferedReader(new InputStreamReader(loader.getResourceAsStream(internal), defaultCharset()))) {
-            return buff.lines().collect(toList());
+        URL packed = loader.getResource(internal + PackedLines.EXTENSION);
+        if (packed != null) {
+            return readPacked(packed);
+        }
+        InputStream in = loader.getResourceAsStream(internal);
+        if (in == null) {
+            throw new FileNotFoundException("Cannot find resource '" + internal + "' on the classpath.");
+        }
+        try (BufferedReader buff = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            return PackedLines.pack(buff);
+        }
+    }
+
+    private List<String> readPacked(URL url) throws IOException {
+        return PackedLines.read(readBytes(url));
+    }
+
+    // Resources sitting on the file system are memory-mapped, the others (e.g.: inside a jar) are read at once
+    private ByteBuffer readBytes(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), READ)) {
+                return channel.map(READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
         }
+        try (InputStream in = url.openStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Returns the content of a classpath resource, or {@code null} if the resource doesn't exist.
+     */
+    public ByteBuffer readResource(String name) throws IOException {
+        URL url = loader.getResource(name);
+        return url == null ? null : readBytes(url);
     }
 
     public List<String> read(MarkovChainType markovChainType) throws IOException {
@@ -112,10 +217,10 @@ public class FileManager {
         return readInternal(getDictPath(dictType));
     }
 
-    public List<String> read(String key) throws IOException {
+    public PackedLines read(String key) throws IOException {
         Path p = get(key);
-        try (Stream<String> stream = Files.lines(p)) {
-            return stream.collect(toList());
+        try (BufferedReader buff = Files.newBufferedReader(p, UTF_8)) {
+            return PackedLines.pack(buff);
         }
     }
 }
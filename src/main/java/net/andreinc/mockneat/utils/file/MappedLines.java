@@ -0,0 +1,310 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Random access to the lines of a (possibly huge) UTF-8 text file, without loading it in memory.
+ *
+ * Line start offsets are kept in an index file, in the temp directory by default, or next to the file
+ * ({@code <file>.idx}) when the {@value #SIDECAR_INDEX_PROPERTY} system property is {@code true}. The index is built
+ * once by streaming the file and then reused for as long as the size and the last modified time of the file don't
+ * change. Both the file and its index are memory-mapped, so the heap used does not depend on the size of the file.
+ * Lines are split the same way as {@link java.io.BufferedReader#readLine()} does for "\n" and "\r\n" terminated lines.
+ *
+ * A mapping is only valid for the version of the file it was opened on: callers should check {@link #isStale()} and
+ * open the file again once it changed.
+ */
+public final class MappedLines {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedLines.class);
+
+    public static final String INDEX_EXTENSION = ".idx";
+
+    public static final String SIDECAR_INDEX_PROPERTY = "mockneat.files.sidecarIndex";
+
+    private static final long MAGIC = 0x4D4E49445831L; // "MNIDX1"
+    private static final int HEADER_BYTES = 4 * Long.BYTES;
+
+    // A single MappedByteBuffer cannot address more than 2GB
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final Path path;
+    private final Path indexPath;
+    private final long fileSize;
+    private final long modified;
+    private final Segments data;
+    private final Segments index;
+    private final long lines;
+
+    private MappedLines(Path path, Path indexPath, long fileSize, long modified,
+                        Segments data, Segments index, long lines) {
+        this.path = path;
+        this.indexPath = indexPath;
+        this.fileSize = fileSize;
+        this.modified = modified;
+        this.data = data;
+        this.index = index;
+        this.lines = lines;
+    }
+
+    public static MappedLines open(Path path) throws IOException {
+        return open(path, DEFAULT_SEGMENT_SIZE);
+    }
+
+    static MappedLines open(Path path, int segmentSize) throws IOException {
+        Path file = path.toAbsolutePath();
+        long size = Files.size(file);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        Path indexFile = indexFor(file, size, modified);
+        Segments data = Segments.map(file, segmentSize);
+        if (data.size != size) {
+            throw new IOException("File '" + file + "' changed while it was being mapped.");
+        }
+        Segments index = Segments.map(indexFile, segmentSize);
+        long lines = (index.size - HEADER_BYTES) / Long.BYTES - 1;
+        return new MappedLines(file, indexFile, size, modified, data, index, lines);
+    }
+
+    /**
+     * Returns {@code true} if the file was modified, truncated or removed since it was mapped. Reading a stale
+     * mapping returns garbage, or fails altogether when the file got shorter.
+     */
+    public boolean isStale() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.size() != fileSize || attributes.lastModifiedTime().toMillis() != modified;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    public long size() {
+        return lines;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public Path indexPath() {
+        return indexPath;
+    }
+
+    public String get(long line) {
+        if (line < 0 || line >= lines) {
+            throw new IndexOutOfBoundsException("Line: " + line + ", Lines: " + lines);
+        }
+        long start = index.getLong(HEADER_BYTES + line * Long.BYTES);
+        long end = index.getLong(HEADER_BYTES + (line + 1) * Long.BYTES);
+        // The stored end is the start of the next line, drop its terminator
+        if (end > start && data.get(end - 1) == '\n') {
+            end--;
+            if (end > start && data.get(end - 1) == '\r') {
+                end--;
+            }
+        }
+        long length = end - start;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Line " + line + " is too long to be read as a String.");
+        }
+        try {
+            return new String(data.bytes(start, (int) length), UTF_8);
+        } catch (InternalError e) {
+            // Raised by the VM instead of SIGBUS when the mapped file was truncated under us
+            throw new IllegalStateException("File '" + path + "' was truncated while it was being read.", e);
+        }
+    }
+
+    // Used unless the index is explicitly allowed next to the user's data
+    static Path tempIndexFor(Path file) {
+        return Paths.get(System.getProperty("java.io.tmpdir"), "mockneat-index",
+                Integer.toHexString(file.toString().hashCode()) + "-" + file.getFileName() + INDEX_EXTENSION);
+    }
+
+    static Path sidecarIndexFor(Path file) {
+        return Paths.get(file.toString() + INDEX_EXTENSION);
+    }
+
+    private static Path indexFor(Path file, long size, long modified) throws IOException {
+        Path temp = tempIndexFor(file);
+        if (isValidIndex(temp, size, modified)) {
+            return temp;
+        }
+        Path sidecar = sidecarIndexFor(file);
+        if (isValidIndex(sidecar, size, modified)) {
+            return sidecar;
+        }
+        if (Boolean.getBoolean(SIDECAR_INDEX_PROPERTY)) {
+            try {
+                return buildIndex(file, sidecar, size, modified);
+            } catch (FileSystemException e) {
+                logger.info("Cannot write the index next to '{}', using '{}' instead.", file, temp);
+            }
+        }
+        Files.createDirectories(temp.getParent());
+        return buildIndex(file, temp, size, modified);
+    }
+
+    private static boolean isValidIndex(Path indexFile, long size, long modified) throws IOException {
+        if (!Files.isRegularFile(indexFile) || Files.size(indexFile) < HEADER_BYTES + Long.BYTES) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // Keep reading until the header is complete
+            }
+            header.flip();
+            return header.remaining() == HEADER_BYTES
+                    && header.getLong() == MAGIC
+                    && header.getLong() == size
+                    && header.getLong() == modified
+                    && header.getLong() == (Files.size(indexFile) - HEADER_BYTES) / Long.BYTES - 1;
+        }
+    }
+
+    private static Path buildIndex(Path file, Path indexFile, long size, long modified) throws IOException {
+        long start = System.currentTimeMillis();
+        Path tmp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "mockneat", INDEX_EXTENSION);
+        long lines = 0;
+        try (FileChannel channel = FileChannel.open(file, READ);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            // The line count is not known yet, it's written in the header once the scan is done
+            out.writeLong(MAGIC);
+            out.writeLong(size);
+            out.writeLong(modified);
+            out.writeLong(0);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+            long position = 0;
+            boolean lineStarted = false;
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    if (!lineStarted) {
+                        out.writeLong(position);
+                        lineStarted = true;
+                        lines++;
+                    }
+                    if (buffer.get() == '\n') {
+                        lineStarted = false;
+                    }
+                    position++;
+                }
+                buffer.clear();
+            }
+            out.writeLong(position);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        if (lines == 0) {
+            Files.deleteIfExists(tmp);
+            throw new IllegalArgumentException("File '" + file + "' is empty.");
+        }
+        try (FileChannel channel = FileChannel.open(tmp, WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putLong(MAGIC).putLong(size).putLong(modified).putLong(lines).flip();
+            channel.write(header, 0);
+        }
+        try {
+            Files.move(tmp, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, indexFile, REPLACE_EXISTING);
+        }
+        logger.info("Indexed {} lines of '{}' in {} ms.", lines, file, System.currentTimeMillis() - start);
+        return indexFile;
+    }
+
+    // Read-only view of a file as a list of mapped segments, addressed with long positions
+    private static final class Segments {
+
+        private final MappedByteBuffer[] buffers;
+        private final int segmentSize;
+        private final long size;
+
+        private Segments(MappedByteBuffer[] buffers, int segmentSize, long size) {
+            this.buffers = buffers;
+            this.segmentSize = segmentSize;
+            this.size = size;
+        }
+
+        static Segments map(Path file, int segmentSize) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, READ)) {
+                long size = channel.size();
+                int count = (int) ((size + segmentSize - 1) / segmentSize);
+                MappedByteBuffer[] buffers = new MappedByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long position = (long) i * segmentSize;
+                    buffers[i] = channel.map(READ_ONLY, position, Math.min(segmentSize, size - position));
+                }
+                return new Segments(buffers, segmentSize, size);
+            }
+        }
+
+        byte get(long position) {
+            return buffers[(int) (position / segmentSize)].get((int) (position % segmentSize));
+        }
+
+        long getLong(long position) {
+            int offset = (int) (position % segmentSize);
+            if (offset + Long.BYTES <= segmentSize) {
+                return buffers[(int) (position / segmentSize)].getLong(offset);
+            }
+            return ByteBuffer.wrap(bytes(position, Long.BYTES)).getLong();
+        }
+
+        byte[] bytes(long position, int length) {
+            byte[] result = new byte[length];
+            int copied = 0;
+            while (copied < length) {
+                long current = position + copied;
+                int offset = (int) (current % segmentSize);
+                // Absolute bulk gets are not available on Java 8, a duplicate keeps this thread-safe
+                ByteBuffer segment = buffers[(int) (current / segmentSize)].duplicate();
+                segment.position(offset);
+                int chunk = Math.min(length - copied, segment.remaining());
+                segment.get(result, copied, chunk);
+                copied += chunk;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
+
+/**
+ * Read-only list of lines stored in a single char arena. Line {@code i} spans
+ * {@code arena[offsets[i]]} to {@code arena[offsets[i + 1]]}, so the whole dictionary costs two arrays
+ * instead of one String (and one backing array) per line. Strings are created on {@link #get(int)}.
+ */
+public final class PackedLines extends AbstractList<String> implements RandomAccess {
+
+    /**
+     * Binary form written by {@link #write(OutputStream)}, all values big-endian:
+     * magic, version, coder, line count, arena length, offsets (count + 1 ints), arena.
+     * The arena is stored one byte per char when every char fits in Latin-1, as UTF-16 otherwise.
+     */
+    public static final String EXTENSION = ".mndict";
+
+    private static final int MAGIC = 0x4D4E4454; // "MNDT"
+    private static final int VERSION = 1;
+    private static final int LATIN1 = 0;
+    private static final int UTF16 = 1;
+    private static final int HEADER_BYTES = 20;
+    // Largest array length most VMs will allocate
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final char[] arena;
+    private final int[] offsets;
+    private final int size;
+
+    private PackedLines(char[] arena, int[] offsets, int size) {
+        this.arena = arena;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    public static PackedLines pack(BufferedReader reader) throws IOException {
+        notNull(reader, "reader");
+        char[] arena = new char[8192];
+        int[] offsets = new int[1024];
+        int length = 0;
+        int size = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            long end = (long) length + line.length();
+            if (end > arena.length) {
+                arena = Arrays.copyOf(arena, grow(arena.length, end, "chars"));
+            }
+            if (size + 2L > offsets.length) {
+                offsets = Arrays.copyOf(offsets, grow(offsets.length, size + 2L, "lines"));
+            }
+            line.getChars(0, line.length(), arena, length);
+            offsets[size++] = length;
+            length = (int) end;
+        }
+        offsets[size] = length;
+        return new PackedLines(Arrays.copyOf(arena, length), Arrays.copyOf(offsets, size + 1), size);
+    }
+
+    private static int grow(int current, long needed, String what) throws IOException {
+        if (needed > MAX_ARRAY_LENGTH) {
+            throw new IOException("Input too large to pack: more than " + MAX_ARRAY_LENGTH + " " + what + ".");
+        }
+        return (int) Math.min(MAX_ARRAY_LENGTH, Math.max(needed, current * 2L));
+    }
+
+    public static PackedLines of(String... lines) {
+        notNull(lines, "lines");
+        long length = 0;
+        for (String line : lines) {
+            length += line.length();
+        }
+        if (length > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Cannot pack more than " + MAX_ARRAY_LENGTH + " chars.");
+        }
+        char[] arena = new char[(int) length];
+        int[] offsets = new int[lines.length + 1];
+        int end = 0;
+        for (int i = 0; i < lines.length; i++) {
+            offsets[i] = end;
+            lines[i].getChars(0, lines[i].length(), arena, end);
+            end += lines[i].length();
+        }
+        offsets[lines.length] = end;
+        return new PackedLines(arena, offsets, lines.length);
+    }
+
+    public static PackedLines read(ByteBuffer buffer) throws IOException {
+        notNull(buffer, "buffer");
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a packed dictionary (or unsupported version).");
+            }
+            int coder = buffer.getInt();
+            int size = buffer.getInt();
+            int length = buffer.getInt();
+            if ((coder != LATIN1 && coder != UTF16) || size < 0 || length < 0) {
+                throw new IOException("Corrupted packed dictionary header.");
+            }
+            int[] offsets = new int[size + 1];
+            buffer.asIntBuffer().get(offsets);
+            buffer.position(buffer.position() + offsets.length * Integer.BYTES);
+            char[] arena = new char[length];
+            if (coder == UTF16) {
+                buffer.asCharBuffer().get(arena);
+                buffer.position(buffer.position() + length * Character.BYTES);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                // Bulk Latin-1 decoding, much faster than a char by char copy on a cold JVM
+                new String(bytes, ISO_8859_1).getChars(0, length, arena, 0);
+            }
+            if (offsets[0] != 0 || offsets[size] != length) {
+                throw new IOException("Corrupted packed dictionary offsets.");
+            }
+            return new PackedLines(arena, offsets, size);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated packed dictionary.", e);
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        notNull(out, "out");
+        int coder = isLatin1() ? LATIN1 : UTF16;
+        int arenaBytes = coder == LATIN1 ? arena.length : arena.length * Character.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + offsets.length * Integer.BYTES + arenaBytes);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(coder).putInt(size).putInt(arena.length);
+        buffer.asIntBuffer().put(offsets);
+        buffer.position(buffer.position() + offsets.length * Integer.BYTES);
+        if (coder == UTF16) {
+            buffer.asCharBuffer().put(arena);
+        } else {
+            for (char c : arena) {
+                buffer.put((byte) c);
+            }
+        }
+        out.write(buffer.array());
+    }
+
+    private boolean isLatin1() {
+        for (char c : arena) {
+            if (c > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int start = offsets[index];
+        return new String(arena, start, offsets[index + 1] - start);
+    }
+
+    // Approximate number of heap bytes held by this list
+    public long weight() {
+        return 64L + (long) arena.length * Character.BYTES + (long) offsets.length * Integer.BYTES;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,188 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static net.andreinc.mockneat.utils.ValidationUtils.isTrue;
+import static net.andreinc.mockneat.utils.ValidationUtils.notNull;
+
+/**
+ * Concurrent cache bounded by the total weight of its values.
+ *
+ * Hits don't write any shared state: the logical clock only moves on loads, so a hit reads it and stamps the entry
+ * only when the stamp is stale (once per entry between two loads). Entries used between the same two loads are
+ * equally recent, which is all the eviction needs since it only runs on loads. When a load pushes the total weight
+ * over the budget, the least recently used entries are evicted until it fits again. Entries that were just loaded
+ * are never evicted before their own load finished, so a value heavier than the whole budget is still cached (alone).
+ * Concurrent misses on the same key wait for a single load.
+ */
+public final class WeightedLruCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ToLongFunction<V> weigher;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long budget;
+
+    public WeightedLruCache(long budget, ToLongFunction<V> weigher) {
+        isTrue(budget >= 0, "The budget should be >= 0.");
+        notNull(weigher, "weigher");
+        this.budget = budget;
+        this.weigher = weigher;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            boolean[] loaded = { false };
+            entry = entries.computeIfAbsent(key, k -> {
+                loaded[0] = true;
+                misses.increment();
+                V value = loader.apply(k);
+                Entry<V> created = new Entry<>(value, weigher.applyAsLong(value));
+                // Odd stamps for loads, so the hits that follow (stamped with the even clock) are more recent
+                created.lastAccess = clock.addAndGet(2) - 1;
+                weight.addAndGet(created.weight);
+                return created;
+            });
+            if (loaded[0]) {
+                evict(entry);
+                return entry.value;
+            }
+        }
+        hits.increment();
+        long now = clock.get();
+        if (entry.lastAccess != now) {
+            entry.lastAccess = now;
+        }
+        return entry.value;
+    }
+
+    public void setBudget(long budget) {
+        isTrue(budget >= 0, "The budget should be >= 0.");
+        this.budget = budget;
+        evict(null);
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public void clear() {
+        entries.keySet().forEach(key -> {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                weight.addAndGet(-removed.weight);
+            }
+        });
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight.get(), budget);
+    }
+
+    // Eviction only happens on loads, so a full scan for the oldest entry is fine here.
+    // Entries inserted by other threads that didn't reach this point yet are skipped.
+    private synchronized void evict(Entry<V> keep) {
+        if (keep != null) {
+            keep.loading = false;
+        }
+        while (weight.get() > budget) {
+            K oldestKey = null;
+            Entry<V> oldest = null;
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                Entry<V> e = candidate.getValue();
+                if (e != keep && !e.loading && (oldest == null || e.lastAccess < oldest.lastAccess)) {
+                    oldestKey = candidate.getKey();
+                    oldest = e;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (entries.remove(oldestKey, oldest)) {
+                weight.addAndGet(-oldest.weight);
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private volatile long lastAccess;
+        private volatile boolean loading = true;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final long weight;
+        private final long budget;
+
+        private Stats(long hits, long misses, long evictions, int size, long weight, long budget) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.weight = weight;
+            this.budget = budget;
+        }
+
+        public long getHits() { return hits; }
+
+        public long getMisses() { return misses; }
+
+        public long getEvictions() { return evictions; }
+
+        public int getSize() { return size; }
+
+        public long getWeight() { return weight; }
+
+        public long getBudget() { return budget; }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    ", size=" + size +
+                    ", weight=" + weight +
+                    ", budget=" + budget +
+                    '}';
+        }
+    }
+}
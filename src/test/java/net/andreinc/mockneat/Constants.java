@@ -53,6 +53,7 @@ public class Constants {
     public static final int LOCAL_DATES_CYCLES = 1000;
     public static final int MAC_CYCLES = 1000;
     public static final int HASH_CYCLES = 1000;
+    public static final int MARKOV_CYCLES = 1000;
     public static final int MIME_CYCLES = 1000;
     public static final int MOCK_CYCLES = 1000;
     public static final int MONEY_CYCLES = 1000;
@@ -0,0 +1,104 @@
+package net.andreinc.mockneat;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.types.enums.RandomType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static net.andreinc.mockneat.types.enums.RandomType.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MockNeatSplitTest {
+
+    private static final RandomType[] SEEDABLE = { OLD, SPLITTABLE, XOROSHIRO_128_PP, PCG_32 };
+    private static final int WORKERS = 4;
+
+    @Test
+    public void testSplitIsReproducibleAcrossParallelRuns() throws Exception {
+        for (RandomType type : SEEDABLE) {
+            List<String> first = generate(new MockNeat(type, 2017L).split(WORKERS));
+            List<String> second = generate(new MockNeat(type, 2017L).split(WORKERS));
+            assertEquals(type.name(), first, second);
+        }
+    }
+
+    @Test
+    public void testChildrenAreIndependent() throws Exception {
+        for (RandomType type : SEEDABLE) {
+            MockNeat[] children = new MockNeat(type, 1L).split(WORKERS);
+            HashSet<List<Long>> sequences = new HashSet<>();
+            for (MockNeat child : children) {
+                sequences.add(child.longs().list(32).val());
+            }
+            assertEquals(type.name(), WORKERS, sequences.size());
+        }
+    }
+
+    @Test
+    public void testSplitUnseeded() throws Exception {
+        MockNeat child = new MockNeat(SPLITTABLE).split();
+        assertTrue(child.ints().bound(10).val() < 10);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testThreadLocalCannotBeSplit() throws Exception {
+        MockNeat.threadLocal().split();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSplitInvalidSize() throws Exception {
+        new MockNeat(SPLITTABLE, 1L).split(0);
+    }
+
+    private static List<String> generate(MockNeat[] children) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(children.length);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (MockNeat child : children) {
+                tasks.add(() -> {
+                    StringBuilder buff = new StringBuilder();
+                    for (int i = 0; i < 200; i++) {
+                        buff.append(child.ints().val())
+                            .append(child.names().full().val())
+                            .append(child.emails().val())
+                            .append(child.uuids().val())
+                            .append(child.strings().size(8).val());
+                    }
+                    return buff.toString();
+                });
+            }
+            List<String> result = new ArrayList<>();
+            for (Future<String> f : executor.invokeAll(tasks)) {
+                result.add(f.get());
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -203,6 +203,62 @@ public class MockFromFunctionsTest {
         Constants.M.fromValues(intMap).val();
     }
 
+    @Test
+    public void testFromKeysIsASnapshot() throws Exception {
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 1);
+        MockUnit<Integer> keys = Constants.M.fromKeys(map);
+        MockUnit<Integer> values = Constants.M.fromValues(map);
+        map.clear();
+        map.put(2, 2);
+        loop(Constants.MOCK_CYCLES, () -> {
+            assertTrue(keys.val() == 1);
+            assertTrue(values.val() == 1);
+        });
+    }
+
+    @Test
+    public void testFromKeysLive() throws Exception {
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 10);
+        MockUnit<Integer> keys = Constants.M.fromKeysLive(map);
+        MockUnit<Integer> values = Constants.M.fromValuesLive(map);
+        assertTrue(keys.val() == 1);
+        assertTrue(values.val() == 10);
+
+        map.put(2, 20);
+        Set<Integer> seen = keys.set(100).val();
+        assertTrue(seen.contains(1) && seen.contains(2));
+
+        // Same size, different keys
+        map.remove(1);
+        map.put(3, 30);
+        loop(Constants.MOCK_CYCLES, () -> {
+            assertTrue(map.containsKey(keys.val()));
+            assertTrue(map.containsValue(values.val()));
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFromKeysLiveEmptiedMap() throws Exception {
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 1);
+        MockUnit<Integer> keys = Constants.M.fromKeysLive(map);
+        map.clear();
+        keys.val();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFromKeysLiveNullMap() throws Exception {
+        Map<Integer, Integer> intMap = null;
+        Constants.M.fromKeysLive(intMap).val();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromValuesLiveEmptyMap() throws Exception {
+        Constants.M.fromValuesLive(new HashMap<>()).val();
+    }
+
     /**********************
      * fromInts
      ***********************/
@@ -0,0 +1,88 @@
+package net.andreinc.mockneat.abstraction;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.utils.file.FileManager;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static net.andreinc.mockneat.Constants.M;
+import static net.andreinc.mockneat.types.enums.DictType.*;
+import static net.andreinc.mockneat.types.enums.StringFormatType.UPPER_CASE;
+import static net.andreinc.mockneat.types.enums.StringType.HEX;
+import static org.junit.Assert.assertTrue;
+
+public class MockUnitCompileTest {
+
+    @Test
+    public void testCompileResolvesSupplierOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        MockUnit<Integer> unit = () -> {
+            calls.incrementAndGet();
+            Supplier<Integer> supp = () -> 1;
+            return supp;
+        };
+        MockUnit<Integer> compiled = unit.compile();
+        assertTrue(calls.get() == 1);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(compiled.val() == 1);
+        }
+        assertTrue(calls.get() == 1);
+    }
+
+    @Test
+    public void testCompileKeepsType() throws Exception {
+        MockUnitInt ints = M.ints().range(0, 10).compile();
+        for (int i = 0; i < 100; i++) {
+            int val = ints.val();
+            assertTrue(val >= 0 && val < 10);
+        }
+        String hex = M.strings().size(8).type(HEX).compile().format(UPPER_CASE).val();
+        assertTrue(hex.matches("[0-9A-F]{8}"));
+    }
+
+    @Test
+    public void testCompiledWordsStillVary() throws Exception {
+        MockUnitString words = M.words().compile();
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(words.val());
+        }
+        assertTrue(values.size() > 1);
+    }
+
+    @Test
+    public void testCompiledDictTypesStillVary() throws Exception {
+        FileManager fm = FileManager.getInstance();
+        Set<String> male = new HashSet<>(fm.getLines(FIRST_NAME_MALE_AMERICAN));
+        Set<String> female = new HashSet<>(fm.getLines(FIRST_NAME_FEMALE_AMERICAN));
+        MockUnitString names = M.dicts().types(FIRST_NAME_MALE_AMERICAN, FIRST_NAME_FEMALE_AMERICAN).compile();
+        boolean fromMale = false, fromFemale = false;
+        for (int i = 0; i < 200; i++) {
+            String name = names.val();
+            fromMale |= male.contains(name);
+            fromFemale |= female.contains(name);
+        }
+        assertTrue(fromMale && fromFemale);
+    }
+}
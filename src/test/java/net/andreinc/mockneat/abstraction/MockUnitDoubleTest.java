@@ -90,4 +90,30 @@ public class MockUnitDoubleTest {
                 }
         );
     }
+
+    @Test
+    public void testMapDouble() throws Exception {
+        loop(
+                MOCK_CYCLES,
+                MOCKS,
+                m -> m.doubles().range(0.0, 10.0).mapDouble(d -> -d).val(),
+                d -> assertTrue(-10.0 < d && d <= 0.0)
+        );
+    }
+
+    @Test
+    public void testFilterDouble() throws Exception {
+        loop(
+                MOCK_CYCLES,
+                MOCKS,
+                m -> m.doubles().range(0.0, 10.0).filterDouble(d -> d >= 5.0).doubleSupplier().getAsDouble(),
+                d -> assertTrue(5.0 <= d && d < 10.0)
+        );
+    }
+
+    @Test
+    public void testDoubleStreamOfGaussians() throws Exception {
+        long count = M.doubles().gaussians().doubleStream().val().limit(100).count();
+        assertTrue(count == 100);
+    }
 }
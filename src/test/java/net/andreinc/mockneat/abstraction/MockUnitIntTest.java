@@ -21,6 +21,7 @@ import net.andreinc.mockneat.Constants;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.function.IntSupplier;
 import java.util.stream.IntStream;
 
 import static net.andreinc.mockneat.utils.LoopsUtils.loop;
@@ -72,4 +73,59 @@ public class MockUnitIntTest {
     public void testArrayNegative() throws Exception {
         Constants.M.ints().array(-10).val();
     }
+
+    @Test
+    public void testMapInt() throws Exception {
+        loop(
+                Constants.MOCK_CYCLES,
+                Constants.MOCKS,
+                m -> m.ints().range(0, 10).mapInt(i -> i * 2).val(),
+                i -> assertTrue(0 <= i && i < 20 && i % 2 == 0)
+        );
+    }
+
+    @Test
+    public void testFilterInt() throws Exception {
+        loop(
+                Constants.MOCK_CYCLES,
+                Constants.MOCKS,
+                m -> m.ints().range(0, 10).filterInt(i -> i % 2 == 1).intSupplier().getAsInt(),
+                i -> assertTrue(0 <= i && i < 10 && i % 2 == 1)
+        );
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMapIntNullFunction() throws Exception {
+        Constants.M.ints().mapInt(null);
+    }
+
+    @Test
+    public void testIntSupplierOfBoxedUnit() throws Exception {
+        MockUnitInt unit = () -> () -> 7;
+        assertTrue(unit.intSupplier().getAsInt() == 7);
+        assertTrue(unit.mapInt(i -> i + 1).val() == 8);
+    }
+
+    @Test
+    public void testIntUnitKeepsPrimitiveSupplier() throws Exception {
+        IntSupplier supplier = () -> 3;
+        MockUnitInt unit = MockUnitInt.intUnit(supplier);
+        assertTrue(unit.intSupplier() == supplier);
+        assertTrue(unit.val() == 3);
+        assertTrue(unit.compile().intSupplier() == supplier);
+    }
+
+    @Test
+    public void testMapIntResolvesSourceLazily() throws Exception {
+        int[] value = { 1 };
+        MockUnitInt unit = () -> {
+            int current = value[0];
+            return () -> current;
+        };
+        MockUnitInt mapped = unit.mapInt(i -> i * 10);
+        MockUnitInt filtered = unit.filterInt(i -> i > 0);
+        value[0] = 2;
+        assertTrue(mapped.val() == 20);
+        assertTrue(filtered.intSupplier().getAsInt() == 2);
+    }
 }
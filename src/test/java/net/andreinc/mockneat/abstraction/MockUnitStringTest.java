@@ -5,6 +5,7 @@ import net.andreinc.mockneat.types.enums.StringType;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.andreinc.mockneat.Constants.*;
 import static net.andreinc.mockneat.types.enums.StringType.LETTERS;
@@ -338,4 +339,88 @@ public class MockUnitStringTest {
                                   .forEach(el ->
                                           assertTrue("a".equals(el) || "b".equals(el))));
     }
+
+    @Test
+    public void testNoSpecialCharsSameAsRegex() {
+        loop(
+                STRING_CYCLES,
+                MOCKS,
+                m -> m.strings().size(20).types(StringType.values()).val(),
+                str -> assertEquals(str.replaceAll("[^\\dA-Za-z ]", ""),
+                                    M.from(new String[]{ str }).mapToString().noSpecialChars().val())
+        );
+    }
+
+    @Test
+    public void testFusedSameAsChained() {
+        String[] values = { "Hello, World! 123", "", "ab-cd", "ßtraße" };
+        for (String value : values) {
+            MockUnitString unit = M.from(new String[]{ value }).mapToString();
+            String chained = unit.prepend("#pre ").replace('o', '0').noSpecialChars().append("-suf").replace('-', '_').val();
+            String fused = unit.fused().prepend("#pre ").replace('o', '0').noSpecialChars().append("-suf").replace('-', '_').val();
+            assertEquals(chained, fused);
+        }
+    }
+
+    @Test
+    public void testFusedCaseAndFilter() {
+        String val = M.from(new String[]{ "aBc-1" })
+                      .mapToString()
+                      .fused()
+                      .append("x")
+                      .upperCase()
+                      .filter(Character::isLetter)
+                      .prepend("y")
+                      .val();
+        assertEquals("yABCX", val);
+        assertEquals("abc", M.from(new String[]{ "ABC" }).mapToString().fused().lowerCase().val());
+    }
+
+    @Test
+    public void testFusedNonPureFunctionsRunForEveryValue() {
+        AtomicInteger calls = new AtomicInteger();
+        CharPipeline pipeline = M.from(new String[]{ "aa" })
+                                 .mapToString()
+                                 .fused()
+                                 .prepend("a")
+                                 .mapChars(c -> 'a' + calls.getAndIncrement())
+                                 .upperCase()
+                                 .append("z");
+        assertEquals("ABCz", pipeline.val());
+        assertEquals("DEFz", pipeline.val());
+
+        AtomicInteger seen = new AtomicInteger();
+        CharPipeline everyOther = M.from(new String[]{ "abcd" })
+                                   .mapToString()
+                                   .fused()
+                                   .filter(c -> seen.getAndIncrement() % 2 == 0);
+        assertEquals("ac", everyOther.val());
+        assertEquals("ac", everyOther.val());
+        assertEquals(8, seen.get());
+    }
+
+    @Test
+    public void testFusedNull() {
+        assertNull(M.from(new String[]{ null }).mapToString().fused().append("x").upperCase().val());
+    }
+
+    @Test
+    public void testFusedLongValues() {
+        loop(
+                STRING_CYCLES,
+                MOCKS,
+                m -> m.strings().size(10000).fused().prepend("a").append("b").val(),
+                str -> assertEquals(10002, str.length())
+        );
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFusedNullAppend() {
+        M.strings().fused().append(null);
+    }
+
+    @Test
+    public void testReplaceFirstPrecompiled() {
+        assertEquals("x-b-c", M.from(new String[]{ "a-b-c" }).mapToString().replaceFirst("[a-z]", "x").val());
+    }
 }
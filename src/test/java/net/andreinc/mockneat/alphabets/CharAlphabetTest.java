@@ -0,0 +1,125 @@
+package net.andreinc.mockneat.alphabets;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CharAlphabetTest {
+
+    private static final int SAMPLES = 1_000_000;
+
+    private static void assertUniform(CharAlphabet alphabet, String chars) {
+        char[] values = new char[SAMPLES];
+        alphabet.fill(new Random(17), values);
+        int[] counts = new int[chars.length()];
+        for (char c : values) {
+            int idx = chars.indexOf(c);
+            assertTrue("Unexpected char: " + c, idx >= 0);
+            counts[idx]++;
+        }
+        double expected = SAMPLES / (double) chars.length();
+        for (int count : counts) {
+            assertEquals(expected, count, expected * 0.05);
+        }
+    }
+
+    @Test
+    public void testUniform() throws Exception {
+        assertUniform(CharAlphabet.of("0123456789"), "0123456789");
+        assertUniform(CharAlphabet.of("abc"), "abc");
+        assertUniform(CharAlphabet.of("0123456789abcdef"), "0123456789abcdef");
+        assertUniform(CharAlphabet.of("ab"), "ab");
+        assertUniform(CharAlphabet.of("abcdefghijklmnopq"), "abcdefghijklmnopq");
+    }
+
+    @Test
+    public void testBundledAlphabets() throws Exception {
+        assertEquals(10, CharAlphabet.NUMBERS.size());
+        assertEquals(52, CharAlphabet.LETTERS.size());
+        assertEquals(62, CharAlphabet.ALPHA_NUMERIC.size());
+        assertEquals(16, CharAlphabet.HEXA.size());
+        assertEquals(Alphabets.SPECIAL_CHARACTERS.size(), CharAlphabet.SPECIAL_CHARACTERS.size());
+    }
+
+    @Test
+    public void testSingleChar() throws Exception {
+        assertEquals("xxxxx", CharAlphabet.of("x").next(new Random(), 5));
+        CharBuffer buffer = CharBuffer.allocate(3);
+        CharAlphabet.of("x").fill(new Random(), buffer);
+        assertEquals("xxx", new String(buffer.array()));
+    }
+
+    @Test
+    public void testNext() throws Exception {
+        assertEquals("", CharAlphabet.HEXA.next(new Random(), 0));
+        String hex = CharAlphabet.HEXA.next(new Random(), 1000);
+        assertEquals(1000, hex.length());
+        assertTrue(hex.matches("[0-9a-f]+"));
+    }
+
+    @Test
+    public void testFillRange() throws Exception {
+        char[] dst = "----------".toCharArray();
+        CharAlphabet.NUMBERS.fill(new Random(), dst, 2, 5);
+        String result = new String(dst);
+        assertTrue(result, result.matches("--[0-9]{5}---"));
+    }
+
+    @Test
+    public void testFillHeapCharBuffer() throws Exception {
+        CharBuffer buffer = CharBuffer.wrap("..........".toCharArray(), 1, 8).slice();
+        buffer.position(2);
+        CharAlphabet.LETTERS.fill(new Random(), buffer);
+        assertEquals(buffer.limit(), buffer.position());
+        assertTrue(new String(buffer.array()), new String(buffer.array()).matches("\\.{3}[A-Za-z]{6}\\."));
+    }
+
+    @Test
+    public void testFillNonArrayCharBuffer() throws Exception {
+        // Direct char buffers have no accessible array
+        CharBuffer buffer = ByteBuffer.allocateDirect(64).asCharBuffer();
+        CharAlphabet.NUMBERS.fill(new Random(), buffer);
+        assertEquals(0, buffer.remaining());
+        buffer.flip();
+        assertTrue(buffer.toString().matches("[0-9]{32}"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFillOutOfBounds() throws Exception {
+        CharAlphabet.NUMBERS.fill(new Random(), new char[4], 2, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmpty() throws Exception {
+        CharAlphabet.of("");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNull() throws Exception {
+        CharAlphabet.of((String) null);
+    }
+}
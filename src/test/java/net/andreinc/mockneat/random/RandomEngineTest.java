@@ -0,0 +1,133 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.types.enums.RandomType;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static net.andreinc.mockneat.types.enums.RandomType.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RandomEngineTest {
+
+    private static final RandomType[] SEEDABLE = { OLD, SPLITTABLE, XOROSHIRO_128_PP, PCG_32 };
+    private static final RandomType[] FAST = { SPLITTABLE, XOROSHIRO_128_PP, PCG_32 };
+
+    @Test
+    public void testSameSeedSameValues() throws Exception {
+        for (RandomType type : SEEDABLE) {
+            List<Integer> first = new MockNeat(type, 1234L).ints().list(100).val();
+            List<Integer> second = new MockNeat(type, 1234L).ints().list(100).val();
+            assertEquals(type.name(), first, second);
+        }
+    }
+
+    @Test
+    public void testDifferentSeedsDifferentValues() throws Exception {
+        for (RandomType type : SEEDABLE) {
+            List<Long> first = new MockNeat(type, 1L).longs().list(100).val();
+            List<Long> second = new MockNeat(type, 2L).longs().list(100).val();
+            assertFalse(type.name(), first.equals(second));
+        }
+    }
+
+    @Test
+    public void testUnseededInstancesAreIndependent() throws Exception {
+        for (RandomType type : FAST) {
+            assertTrue(type.random() != type.random());
+        }
+    }
+
+    @Test
+    public void testBounds() throws Exception {
+        for (RandomType type : FAST) {
+            Random random = type.random();
+            for (int i = 0; i < 10_000; i++) {
+                int bound = 1 + random.nextInt(1000);
+                int val = random.nextInt(bound);
+                assertTrue(val >= 0 && val < bound);
+                double d = random.nextDouble();
+                assertTrue(d >= 0.0 && d < 1.0);
+                float f = random.nextFloat();
+                assertTrue(f >= 0.0f && f < 1.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testUniform() throws Exception {
+        int buckets = 10;
+        int draws = 100_000;
+        for (RandomType type : FAST) {
+            Random random = type.random(42L);
+            int[] counts = new int[buckets];
+            for (int i = 0; i < draws; i++) {
+                counts[random.nextInt(buckets)]++;
+            }
+            double expected = draws / (double) buckets;
+            double chiSquare = 0.0;
+            for (int count : counts) {
+                chiSquare += (count - expected) * (count - expected) / expected;
+            }
+            // 9 degrees of freedom, p = 0.001
+            assertTrue(type.name() + ": " + chiSquare, chiSquare < 27.88);
+        }
+    }
+
+    @Test
+    public void testCustomEngine() throws Exception {
+        RandomEngine engine = new RandomEngine() {
+            @Override
+            public Random random() { return new Random(7L); }
+            @Override
+            public Random random(long seed) { return new Random(seed); }
+        };
+        assertEquals(new MockNeat(engine).ints().list(10).val(), new MockNeat(OLD, 7L).ints().list(10).val());
+    }
+
+    @Test
+    public void testXoroshiroJump() throws Exception {
+        Xoroshiro128PlusPlusRandom random = new Xoroshiro128PlusPlusRandom(1L);
+        Xoroshiro128PlusPlusRandom copy = random.copy();
+        assertEquals(random.nextLong(), copy.nextLong());
+        copy.jump();
+        assertFalse(random.nextLong() == copy.nextLong());
+    }
+
+    @Test
+    public void testPcg32ReferenceOutput() throws Exception {
+        // First outputs of the reference pcg32-demo (seed 42, stream 54)
+        Pcg32Random random = new Pcg32Random(42L, 54L);
+        assertEquals(0xa15c02b7, random.nextInt());
+        assertEquals(0x7b47f409, random.nextInt());
+        assertEquals(0xba1d3330, random.nextInt());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullEngine() throws Exception {
+        RandomEngine engine = null;
+        new MockNeat(engine);
+    }
+}
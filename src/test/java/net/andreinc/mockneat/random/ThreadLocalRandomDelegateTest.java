@@ -0,0 +1,138 @@
+package net.andreinc.mockneat.random;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.types.enums.RandomType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class ThreadLocalRandomDelegateTest {
+
+    private static final int THREADS = 8;
+    private static final int SCALING_OPS = 200_000;
+
+    // Wall-clock scaling checks are unreliable on loaded or low-core machines,
+    // so they only run when asked for: ./gradlew test -PscalingTests
+    private static final boolean SCALING_TESTS = Boolean.getBoolean("mockneat.scalingTests");
+
+    @Test
+    public void testEachThreadUsesItsOwnGenerator() throws Exception {
+        MockNeat m = MockNeat.threadLocal();
+        List<Callable<List<Integer>>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            // Fresh threads never touched ThreadLocalRandom.current() before
+            tasks.add(() -> m.ints().list(16).val());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Set<List<Integer>> sequences = new HashSet<>();
+            for (Future<List<Integer>> f : executor.invokeAll(tasks)) {
+                sequences.add(f.get());
+            }
+            assertEquals(THREADS, sequences.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCannotBeSeeded() throws Exception {
+        new MockNeat(RandomType.THREAD_LOCAL, 1L);
+    }
+
+    @Test
+    public void testValuesInRange() throws Exception {
+        ThreadLocalRandomDelegate random = new ThreadLocalRandomDelegate();
+        for (int i = 0; i < 1000; i++) {
+            int val = random.nextInt(10);
+            assertTrue(val >= 0 && val < 10);
+            double d = random.nextDouble();
+            assertTrue(d >= 0.0 && d < 1.0);
+        }
+    }
+
+    @Test
+    public void testIntsScaleWithThreads() throws Exception {
+        assertScales(m -> m.ints().val());
+    }
+
+    @Test
+    public void testStringsScaleWithThreads() throws Exception {
+        assertScales(m -> m.strings().size(16).val());
+    }
+
+    @Test
+    public void testNamesScaleWithThreads() throws Exception {
+        assertScales(m -> m.names().val());
+    }
+
+    private static void assertScales(Consumer<MockNeat> op) throws Exception {
+        assumeTrue(SCALING_TESTS);
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        assumeTrue(threads > 1);
+
+        MockNeat m = MockNeat.threadLocal();
+        // Warm-up
+        run(1, SCALING_OPS, m, op);
+
+        long single = run(1, SCALING_OPS, m, op);
+        long parallel = run(threads, SCALING_OPS, m, op);
+
+        // Every thread performs the same amount of work as the single thread,
+        // so a linear speedup keeps the wall time constant.
+        assertTrue("Expected near-linear scaling (single=" + single + "ns, " + threads + " threads=" + parallel + "ns)",
+                parallel < single * 2);
+    }
+
+    private static long run(int threads, int ops, MockNeat m, Consumer<MockNeat> op) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < ops; j++) {
+                        op.accept(m);
+                    }
+                    return null;
+                });
+            }
+            long start = System.nanoTime();
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
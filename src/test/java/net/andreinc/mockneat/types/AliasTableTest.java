@@ -0,0 +1,112 @@
+package net.andreinc.mockneat.types;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AliasTableTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static int[] histogram(double[] weights) {
+        AliasTable table = new AliasTable(weights);
+        Random random = new Random(42);
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[table.next(random)]++;
+        }
+        return counts;
+    }
+
+    @Test
+    public void testDistribution() throws Exception {
+        double[] weights = { 1.0, 2.0, 3.0, 4.0 };
+        int[] counts = histogram(weights);
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / 10.0;
+            assertEquals(expected, counts[i] / (double) SAMPLES, 0.01);
+        }
+    }
+
+    @Test
+    public void testUnnormalisedWeights() throws Exception {
+        int[] counts = histogram(new double[]{ 250.0, 750.0 });
+        assertEquals(0.25, counts[0] / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    public void testZeroWeightsAreNeverSampled() throws Exception {
+        int[] counts = histogram(new double[]{ 0.0, 1.0, 0.0, 1e-9, 0.0, 1.0 });
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[2]);
+        assertEquals(0, counts[4]);
+        assertTrue(counts[1] > 0 && counts[5] > 0);
+    }
+
+    @Test
+    public void testManyOutcomes() throws Exception {
+        double[] weights = new double[10_000];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = i % 2 == 0 ? 1.0 : 0.0;
+        }
+        AliasTable table = new AliasTable(weights);
+        assertEquals(5_000, table.size());
+        Random random = new Random();
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(0, table.next(random) % 2);
+        }
+    }
+
+    @Test
+    public void testSingleOutcome() throws Exception {
+        AliasTable table = new AliasTable(new double[]{ 0.3 });
+        assertEquals(0, table.next(new Random()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullWeights() throws Exception {
+        new AliasTable(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyWeights() throws Exception {
+        new AliasTable(new double[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight() throws Exception {
+        new AliasTable(new double[]{ 1.0, -0.1 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNWeight() throws Exception {
+        new AliasTable(new double[]{ 1.0, Double.NaN });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAllZeroWeights() throws Exception {
+        new AliasTable(new double[]{ 0.0, 0.0 });
+    }
+}
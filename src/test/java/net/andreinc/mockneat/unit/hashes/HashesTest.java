@@ -0,0 +1,64 @@
+package net.andreinc.mockneat.unit.hashes;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.types.enums.HashType;
+import org.junit.Test;
+
+import static net.andreinc.mockneat.Constants.*;
+import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.assertTrue;
+
+public class HashesTest {
+
+    @Test(expected = NullPointerException.class)
+    public void testHashNullType() throws Exception {
+        M.hashes().hash(null).val();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRandomHashNullType() throws Exception {
+        M.hashes().randomHash(null).val();
+    }
+
+    @Test
+    public void testHash() throws Exception {
+        for (HashType type : HashType.values()) {
+            loop(
+                    HASH_CYCLES,
+                    MOCKS,
+                    m -> m.hashes().hash(type).val(),
+                    h -> assertTrue(h.matches("^[0-9a-f]{" + 2 * type.getLength() + "}$"))
+            );
+        }
+    }
+
+    @Test
+    public void testRandomHash() throws Exception {
+        for (HashType type : HashType.values()) {
+            loop(
+                    HASH_CYCLES,
+                    MOCKS,
+                    m -> m.hashes().randomHash(type).val(),
+                    h -> assertTrue(h.matches("^[0-9a-f]{" + 2 * type.getLength() + "}$"))
+            );
+        }
+    }
+}
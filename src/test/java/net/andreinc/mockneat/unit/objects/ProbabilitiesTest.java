@@ -22,6 +22,9 @@ import net.andreinc.mockneat.utils.LoopsUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static net.andreinc.mockneat.Constants.M;
 
 public class ProbabilitiesTest {
@@ -75,4 +78,72 @@ public class ProbabilitiesTest {
                                                     val.length() == 15)
         );
     }
+
+    @Test
+    public void testValuesDistribution() throws Exception {
+        Probabilities<Integer> probs = M.probabilites(Integer.class).add(0.2, 1).add(0.8, 2);
+        int ones = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (probs.val() == 1) { ones++; }
+        }
+        Assert.assertEquals(0.2, ones / 100_000.0, 0.01);
+    }
+
+    @Test
+    public void testAddAfterFirstUse() throws Exception {
+        Probabilities<Integer> probs = M.probabilites(Integer.class).add(0.5, 1);
+        try {
+            probs.val();
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Sum is 0.5
+        }
+        probs.add(0.5, 2);
+        Assert.assertTrue(probs.set(1000).val().contains(2));
+    }
+
+    @Test
+    public void testWeighted() throws Exception {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("a", 1.0);
+        weights.put("b", 3.0);
+        weights.put("c", 0.0);
+        LoopsUtils.loop(
+                Constants.PROBABILITIES_CYCLES,
+                Constants.MOCKS,
+                mockNeat -> mockNeat.weighted(weights).val(),
+                val -> Assert.assertTrue(val.equals("a") || val.equals("b"))
+        );
+        int as = 0;
+        for (String s : M.weighted(weights).list(100_000).val()) {
+            if (s.equals("a")) { as++; }
+        }
+        Assert.assertEquals(0.25, as / 100_000.0, 0.01);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWeightedNullMap() throws Exception {
+        Map<String, Double> weights = null;
+        M.weighted(weights);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightedEmptyMap() throws Exception {
+        M.weighted(new HashMap<String, Double>());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWeightedNullWeight() throws Exception {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("a", null);
+        M.weighted(weights);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightedNegativeWeight() throws Exception {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("a", 1.0);
+        weights.put("b", -1.0);
+        M.weighted(weights);
+    }
 }
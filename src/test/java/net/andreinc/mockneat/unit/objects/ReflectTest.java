@@ -19,7 +19,11 @@ package net.andreinc.mockneat.unit.objects;
 
 import net.andreinc.mockneat.unit.objects.model.Customer1;
 import net.andreinc.mockneat.unit.objects.model.FinalValue;
+import net.andreinc.mockneat.unit.objects.model.Order;
+import net.andreinc.mockneat.unit.objects.model.OrderLine;
+import net.andreinc.mockneat.unit.objects.model.PrimitivesBean;
 import net.andreinc.mockneat.unit.objects.model.TheAbstractClass;
+import net.andreinc.mockneat.unit.objects.model.TreeNode;
 import net.andreinc.mockneat.Constants;
 import net.andreinc.mockneat.utils.NamesCheckUtils;
 import org.junit.Test;
@@ -32,6 +36,7 @@ import static net.andreinc.mockneat.types.enums.CreditCardType.AMERICAN_EXPRESS;
 import static net.andreinc.mockneat.types.enums.NameType.FIRST_NAME;
 import static net.andreinc.mockneat.types.enums.NameType.LAST_NAME;
 import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -178,4 +183,169 @@ public class ReflectTest {
                 }
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReflectionPrimitivesAndSuperclass() throws Exception {
+        loop(
+                OBJS_CYCLES,
+                MOCKS,
+                m -> m.reflect(PrimitivesBean.class)
+                        .field("l", 5)
+                        .field("d", m.doubles().range(1.0, 2.0))
+                        .field("i", m.ints().range(10, 20))
+                        .useDefaults(true)
+                        .type(String.class, "abc")
+                        .val(),
+                b -> {
+                    assertEquals(5L, b.getL());
+                    assertTrue(1.0 <= b.getD() && b.getD() < 2.0);
+                    assertTrue(10 <= b.getI() && b.getI() < 20);
+                    assertEquals("abc", b.getS());
+                }
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReflectionPrimitiveWithoutValue() throws Exception {
+        M.reflect(PrimitivesBean.class).field("l", 1L).field("d", 1.0).val();
+    }
+
+    @Test
+    public void testReflectionWideningMixedTypes() throws Exception {
+        Reflect<PrimitivesBean> reflect = M.reflect(PrimitivesBean.class)
+                                           .field("l", M.fromInts(new int[]{ 7 }))
+                                           .field("d", M.fromInts(new int[]{ 3 }))
+                                           .field("i", 'a')
+                                           .useDefaults(true);
+        for (int i = 0; i < 10; i++) {
+            PrimitivesBean bean = reflect.val();
+            assertEquals(7L, bean.getL());
+            assertEquals(3.0, bean.getD(), 0.0);
+            assertEquals(97, bean.getI());
+        }
+        reflect.field("l", 8L).field("d", 2.5f);
+        assertEquals(8L, reflect.val().getL());
+        assertEquals(2.5, reflect.val().getD(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReflectionNarrowingFails() throws Exception {
+        M.reflect(PrimitivesBean.class).useDefaults(true).field("i", 10L).val();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReflectionWrongType() throws Exception {
+        M.reflect(PrimitivesBean.class).useDefaults(true).field("i", "10").val();
+    }
+
+    @Test
+    public void testReflectionChangedAfterVal() throws Exception {
+        Reflect<PrimitivesBean> reflect = M.reflect(PrimitivesBean.class).useDefaults(true).field("i", 1);
+        assertEquals(1, reflect.val().getI());
+        reflect.field("i", 2).type(String.class, "x");
+        PrimitivesBean bean = reflect.val();
+        assertEquals(2, bean.getI());
+        assertEquals("x", bean.getS());
+        reflect.useDefaults(false);
+        assertEquals(null, reflect.field("l", 0L).field("d", 0.0).val().getS());
+    }
+
+    @Test
+    public void testDeep() throws Exception {
+        loop(
+                OBJS_CYCLES,
+                MOCKS,
+                m -> m.reflect(Order.class)
+                        .deep(2)
+                        .recursion(0)
+                        .field("id", m.uuids())
+                        .type(Integer.class, m.ints().range(1, 10))
+                        .val(),
+                o -> {
+                    assertEquals(36, o.getId().length());
+                    assertNotNull(o.getStatus());
+                    assertNotNull(o.getCustomer());
+                    assertNotNull(o.getCustomer().getS());
+                    assertEquals(3, o.getLines().size());
+                    for (OrderLine line : o.getLines()) {
+                        assertNotNull(line.getProduct());
+                        assertTrue(1 <= line.getQuantity() && line.getQuantity() < 10);
+                        // Order -> OrderLine -> Order is cut by recursion(0)
+                        assertNull(line.getOrder());
+                    }
+                    assertTrue(o.getHistory().size() >= 1 && o.getHistory().size() <= 3);
+                    assertEquals(3, o.getCounters().size());
+                    assertEquals(3, o.getCodes().length);
+                    assertNull(o.getNotes());
+                    assertEquals("web", o.getSource());
+                }
+        );
+    }
+
+    @Test
+    public void testDeepDepthAndCollectionSize() throws Exception {
+        Order order = M.reflect(Order.class).deep(1, 5).val();
+        assertEquals(5, order.getLines().size());
+        assertNotNull(order.getCustomer());
+
+        TreeNode node = M.reflect(TreeNode.class).deep(3).val();
+        assertNotNull(node.getName());
+        assertNotNull(node.getParent());
+        assertTreeDepth(node, 3);
+    }
+
+    // 'levels' levels of children below 'node', each with a name and 3 children, then empty lists
+    private static void assertTreeDepth(TreeNode node, int levels) {
+        if (levels == 0) {
+            assertTrue(node.getChildren().isEmpty());
+            assertNull(node.getParent());
+            return;
+        }
+        assertEquals(3, node.getChildren().size());
+        for (TreeNode child : node.getChildren()) {
+            assertNotNull(child.getName());
+            assertTreeDepth(child, levels - 1);
+        }
+    }
+
+    @Test
+    public void testDeepRecursionLimit() throws Exception {
+        TreeNode node = M.reflect(TreeNode.class).deep(3).recursion(1).val();
+        assertEquals(3, node.getChildren().size());
+        for (TreeNode child : node.getChildren()) {
+            assertTrue(child.getChildren().isEmpty());
+            assertNull(child.getParent());
+        }
+
+        OrderLine line = M.reflect(OrderLine.class).deep(2).recursion(0).val();
+        assertNotNull(line.getOrder());
+        for (OrderLine nested : line.getOrder().getLines()) {
+            assertNull(nested.getOrder());
+        }
+    }
+
+    @Test
+    public void testDeepDepthLimit() throws Exception {
+        OrderLine line = M.reflect(OrderLine.class).deep(1).val();
+        assertNotNull(line.getOrder());
+        assertNotNull(line.getOrder().getStatus());
+        // No depth left for the beans inside Order
+        assertNull(line.getOrder().getCustomer());
+        assertTrue(line.getOrder().getLines().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeepInvalidDepth() throws Exception {
+        M.reflect(Order.class).deep(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeepInvalidRecursion() throws Exception {
+        M.reflect(TreeNode.class).deep(2).recursion(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeepInvalidCollectionSize() throws Exception {
+        M.reflect(Order.class).deep(1, -1);
+    }
+}
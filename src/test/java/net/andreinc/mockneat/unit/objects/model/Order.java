@@ -0,0 +1,88 @@
+package net.andreinc.mockneat.unit.objects.model;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class Order implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status { NEW, PAID, SHIPPED }
+
+    private String id;
+    private long number;
+    private Status status;
+    private SimpleBean customer;
+    private List<OrderLine> lines;
+    private Set<Status> history;
+    private Map<String, Integer> counters;
+    private int[] codes;
+    private Object notes;
+    // Not a compile-time constant, so getSource() really reads the field
+    private final String source;
+
+    public Order() {
+        this.source = "web";
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public SimpleBean getCustomer() {
+        return customer;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public Set<Status> getHistory() {
+        return history;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public int[] getCodes() {
+        return codes;
+    }
+
+    public Object getNotes() {
+        return notes;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
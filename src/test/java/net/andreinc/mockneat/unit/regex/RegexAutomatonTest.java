@@ -0,0 +1,72 @@
+package net.andreinc.mockneat.unit.regex;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static net.andreinc.mockneat.Constants.REGEX_CYLCES;
+import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.*;
+
+public class RegexAutomatonTest {
+
+    @Test
+    public void testCachedInstance() throws Exception {
+        RegexAutomaton automaton = RegexAutomaton.of("[a-f]{4}");
+        assertSame(automaton, RegexAutomaton.of("[a-f]{4}"));
+        assertEquals("[a-f]{4}", automaton.regex());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        RegexAutomaton.clearCache();
+        RegexAutomaton.of("x0");
+        for (int i = 1; i <= RegexAutomaton.CACHE_SIZE; i++) {
+            RegexAutomaton.of("x" + i);
+        }
+        assertFalse(RegexAutomaton.isCached("x0"));
+        assertTrue(RegexAutomaton.isCached("x" + RegexAutomaton.CACHE_SIZE));
+    }
+
+    @Test
+    public void testLiteral() throws Exception {
+        RegexAutomaton automaton = RegexAutomaton.compile("abc");
+        assertEquals("abc", automaton.next(new Random()));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertEquals("", RegexAutomaton.compile("").next(new Random()));
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        RegexAutomaton automaton = RegexAutomaton.compile("(ab|c+)[x-z]?");
+        Random random = new Random();
+        loop(REGEX_CYLCES, () -> assertTrue(automaton.next(random).matches("(ab|c+)[x-z]?")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalid() throws Exception {
+        RegexAutomaton.compile("a{");
+    }
+}
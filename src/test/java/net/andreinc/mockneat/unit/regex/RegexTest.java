@@ -17,9 +17,12 @@ package net.andreinc.mockneat.unit.regex;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.types.enums.RandomType;
 import org.junit.Test;
 
 import static net.andreinc.mockneat.Constants.*;
+import static org.junit.Assert.assertEquals;
 import static net.andreinc.mockneat.utils.LoopsUtils.loop;
 
 public class RegexTest {
@@ -43,4 +46,33 @@ public class RegexTest {
                 r -> r.matches("[0-3]([a-c]|[e-g]{1,2})")
         );
     }
+
+    @Test
+    public void testPredefinedClasses() throws Exception {
+        loop(
+                REGEX_CYLCES,
+                MOCKS,
+                m -> m.regex("\\d{3}-\\w{2}\\s\\D").val(),
+                r -> r.matches("[0-9]{3}-[a-zA-Z_0-9]{2}[ \t\n\f\r][^0-9]")
+        );
+    }
+
+    @Test
+    public void testQuoted() throws Exception {
+        loop(
+                REGEX_CYLCES,
+                MOCKS,
+                m -> m.regex("\\Q(a.b)\\E[0-9]").val(),
+                r -> r.matches("\\(a\\.b\\)[0-9]")
+        );
+    }
+
+    @Test
+    public void testSameSeedSameValues() throws Exception {
+        MockNeat m1 = new MockNeat(RandomType.OLD, 42L);
+        MockNeat m2 = new MockNeat(RandomType.OLD, 42L);
+        loop(REGEX_CYLCES, () ->
+            assertEquals(m1.regex("[a-z]{2,8}(-[0-9]+)?").val(), m2.regex("[a-z]{2,8}(-[0-9]+)?").val())
+        );
+    }
 }
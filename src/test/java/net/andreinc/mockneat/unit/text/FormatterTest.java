@@ -20,8 +20,14 @@ package net.andreinc.mockneat.unit.text;
 import net.andreinc.aleph.UncheckedFormatterException;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static net.andreinc.aleph.AlephFormatter.template;
 import static net.andreinc.mockneat.Constants.*;
 import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class FormatterTest {
@@ -131,4 +137,52 @@ public class FormatterTest {
     public void testFmtInvalidFmt2() throws Exception {
         M.fmt("#{1#{2}}").param("1#{2", M.ints()).val();
     }
+
+    @Test
+    public void testFmtSameParamTwice() throws Exception {
+        Formatter fmt = M.fmt("#{a}-#{a}:#{b}").param("a", M.intSeq()).param("b", M.fromStrings(new String[]{"x"}));
+        assertEquals("0-0:x", fmt.val());
+        assertEquals("1-1:x", fmt.val());
+    }
+
+    @Test
+    public void testFmtParamChangedAfterVal() throws Exception {
+        Formatter fmt = M.fmt("[#{a}]").param("a", M.fromInts(new int[]{1}));
+        assertEquals("[1]", fmt.val());
+        fmt.param("a", M.fromInts(new int[]{2}));
+        assertEquals("[2]", fmt.val());
+    }
+
+    @Test
+    public void testFmtNullValue() throws Exception {
+        assertEquals("a--b", M.fmt("a-#{p}-b").param("p", M.fromStrings(new String[]{null})).val());
+    }
+
+    @Test
+    public void testFmtEdgeFormatsMatchAleph() throws Exception {
+        String[] formats = {
+            "##{a}", "#{a}}", "#}", "#", "##", "a#", "#{a}#", "#{", "#{a", "#{}", "#{c}",
+            "{#{a}}", "#{a}{", "}#{a}{", "##}{#{a}}", "#{a}##{b}", "a#b#{a}", "#{a} #",
+            "#{a}`#{b}", "``#{a}", "#{a#{b}}", "{\"a\": \"#{a}\", \"b\": #{b}}", "#{a}#{b}#{a}"
+        };
+        Map<String, Object> args = new HashMap<>();
+        args.put("a", "x");
+        args.put("b", "y");
+        for (String fmt : formats) {
+            String expected = fmtOrError(() -> template(fmt, args).fmt());
+            String actual = fmtOrError(() -> M.fmt(fmt)
+                                              .param("a", M.fromStrings(new String[]{"x"}))
+                                              .param("b", M.fromStrings(new String[]{"y"}))
+                                              .val());
+            assertEquals(fmt, expected, actual);
+        }
+    }
+
+    private static String fmtOrError(Supplier<String> fmt) {
+        try {
+            return fmt.get();
+        } catch (UncheckedFormatterException e) {
+            return "<" + e.getClass().getSimpleName() + ">";
+        }
+    }
 }
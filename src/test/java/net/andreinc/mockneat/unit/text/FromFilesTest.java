@@ -17,14 +17,17 @@ package net.andreinc.mockneat.unit.text;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.utils.file.FileManager;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
 import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
 import static java.nio.file.Files.write;
 import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.Arrays.asList;
 import static net.andreinc.mockneat.Constants.*;
 import static net.andreinc.mockneat.types.enums.StringType.LETTERS;
 import static net.andreinc.mockneat.utils.LoopsUtils.loop;
@@ -70,4 +73,36 @@ public class FromFilesTest {
             fail("Cannot write tmp file to disk");
         }
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappedEmptyPath() throws Exception {
+        M.files().mapped("").val();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappedMissingFile() throws Exception {
+        M.files().mapped("/this/file/does/not/exist/mockneat.txt").val();
+    }
+
+    @Test
+    public void testMappedFiles() throws Exception {
+        Path tmp = createTempFile("mockneat-mapped", ".txt");
+        Path index = null;
+        try {
+            write(tmp, asList("Alpha", "Beta", "Gamma"));
+            final String path = tmp.toString();
+            loop(
+                FILES_CYCLES,
+                MOCKS,
+                m -> m.files().mapped(path).val(),
+                l -> assertTrue(l.equals("alpha") || l.equals("beta") || l.equals("gamma"))
+            );
+            index = FileManager.getInstance().getMappedLines(path).indexPath();
+        } finally {
+            if (index != null) {
+                deleteIfExists(index);
+            }
+            deleteIfExists(tmp);
+        }
+    }
 }
@@ -17,10 +17,59 @@ package net.andreinc.mockneat.unit.text;
  OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
  */
 
+import net.andreinc.mockneat.Constants;
+import net.andreinc.mockneat.MockNeat;
+import net.andreinc.mockneat.abstraction.MockUnitString;
 import org.junit.Test;
 
+import java.io.StringWriter;
+
+import static net.andreinc.mockneat.types.enums.MarkovChainType.KAFKA;
+import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class MarkovsTest {
+
+    @Test
+    public void testSize() throws Exception {
+        for (MockNeat m : Constants.MOCKS) {
+            MockUnitString markovs = m.markovs().size(100).type(KAFKA);
+            loop(Constants.MARKOV_CYCLES, () -> {
+                String s = markovs.val();
+                assertTrue(s.length() == 100);
+                assertFalse(Character.isLowerCase(s.charAt(0)));
+            });
+        }
+    }
+
+    @Test
+    public void testDefault() throws Exception {
+        assertTrue(Constants.M.markovs().val().length() == 512);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullType() throws Exception {
+        Constants.M.markovs().type(null).val();
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        StringWriter out = new StringWriter();
+        assertTrue(Constants.M.markovs().write(KAFKA, out, 100_000) == 100_000);
+        assertTrue(out.toString().length() == 100_000);
+    }
+
     @Test
-    public void test1() throws Exception {
+    public void testWriteWords() throws Exception {
+        StringWriter out = new StringWriter();
+        long written = Constants.M.markovs().writeWords(out, 1000);
+        assertTrue(written == out.toString().length());
+        assertTrue(out.toString().split(" ").length == 1000);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWriteNullType() throws Exception {
+        Constants.M.markovs().write(null, new StringWriter(), 10);
     }
 }
@@ -21,6 +21,7 @@ import net.andreinc.mockneat.alphabets.Alphabets;
 import net.andreinc.mockneat.types.enums.StringType;
 import org.junit.Test;
 
+import java.nio.CharBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -108,6 +109,32 @@ public class StringsTest {
         );
     }
 
+    @Test
+    public void testFill() throws Exception {
+        char[] dst = new char[100];
+        M.strings().fill(dst);
+        assertTrue(isAlphanumeric(new String(dst)));
+        M.strings().fill(NUMBERS, dst);
+        assertTrue(isNumeric(new String(dst)));
+        M.strings().fill(SPECIAL_CHARACTERS, dst, 10, 20);
+        verifySpecialChars(new String(dst, 10, 20));
+        assertTrue(isNumeric(new String(dst, 0, 10)) && isNumeric(new String(dst, 30, 70)));
+    }
+
+    @Test
+    public void testFillCharBuffer() throws Exception {
+        CharBuffer buffer = CharBuffer.allocate(50);
+        M.strings().fill(LETTERS, buffer);
+        assertTrue(!buffer.hasRemaining());
+        buffer.flip();
+        assertTrue(isAlpha(buffer));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFillNullType() throws Exception {
+        M.strings().fill(null, new char[10]);
+    }
+
     private void verifySpecialChars(String str) {
         Set<Character> specials = new HashSet<>(Alphabets.SPECIAL_CHARACTERS);
         range(0, str.length()).forEach(i -> {
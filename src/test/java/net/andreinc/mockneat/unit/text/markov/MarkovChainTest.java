@@ -0,0 +1,186 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MarkovChainTest {
+
+    @Test
+    public void testTrain() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("a b c a b d a b c"), 2);
+        assertEquals(4, chain.words());
+        // (a b) (b c) (c a) (b d) (d a)
+        assertEquals(5, chain.states());
+        assertEquals(2, chain.getStateSize());
+    }
+
+    @Test
+    public void testDeterministicChain() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("one two three one two three one two three"), 1);
+        String text = chain.generate(new Random(), 200);
+        assertEquals(200, text.length());
+        String[] words = text.split(" ");
+        for (int i = 1; i < words.length - 1; i++) {
+            String expected = words[i - 1].equalsIgnoreCase("one") ? "two" :
+                              words[i - 1].equalsIgnoreCase("two") ? "three" : "one";
+            assertEquals(expected, words[i]);
+        }
+    }
+
+    @Test
+    public void testTransitionFrequencies() throws Exception {
+        // After "x" comes "a" three times and "b" once
+        MarkovChain chain = MarkovChain.train(singletonList("x a x a x a x b x"), 1);
+        String text = chain.generate(new Random(7), 400_000);
+        int a = 0, b = 0;
+        for (String w : text.split(" ")) {
+            if (w.equals("a")) { a++; }
+            else if (w.equals("b")) { b++; }
+        }
+        assertEquals(0.75, a / (double) (a + b), 0.01);
+    }
+
+    @Test
+    public void testCapitalizeAfterSentenceEnd() throws Exception {
+        MarkovChain chain = MarkovChain.train(asList("the end. \"the\" start", "and the end. the start"), 1);
+        String[] words = chain.generate(new Random(), 1000).split(" ");
+        assertTrue(Character.isUpperCase(words[0].charAt(0)));
+        for (int i = 1; i < words.length - 1; i++) {
+            boolean upper = Character.isUpperCase(words[i].charAt(0));
+            assertEquals(words[i - 1].endsWith("."), upper);
+        }
+    }
+
+    @Test
+    public void testDeadEndsRestart() throws Exception {
+        // The last state (d e) has no successor
+        MarkovChain chain = MarkovChain.train(singletonList("a b c d e"), 2);
+        assertEquals(5000, chain.generate(new Random(), 5000).length());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotEnoughWords() throws Exception {
+        MarkovChain.train(singletonList("a b"), 2);
+    }
+
+    @Test
+    public void testWriteRead() throws Exception {
+        MarkovChain chain = MarkovChain.train(asList("Ünïcode wörds \u4e2d\u6587 here.", "and some more words here. and more"), 2);
+        MarkovChain read = roundTrip(chain);
+        assertEquals(chain.words(), read.words());
+        assertEquals(chain.states(), read.states());
+        assertEquals(2, read.getStateSize());
+        assertEquals(chain.generate(new Random(3), 500), read.generate(new Random(3), 500));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadNotAModel() throws Exception {
+        MarkovChain.read(ByteBuffer.wrap("definitely not a model".getBytes("UTF-8")));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadTruncated() throws Exception {
+        byte[] bytes = bytes(MarkovChain.train(singletonList("a b c d e f"), 1));
+        MarkovChain.read(ByteBuffer.wrap(bytes, 0, bytes.length - 4).slice());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadCorrupted() throws Exception {
+        byte[] bytes = bytes(MarkovChain.train(singletonList("a b c d e f"), 1));
+        // Last target points past the states
+        bytes[bytes.length - 1] = 0x7F;
+        MarkovChain.read(ByteBuffer.wrap(bytes));
+    }
+
+    private static byte[] bytes(MarkovChain chain) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chain.write(out);
+        return out.toByteArray();
+    }
+
+    private static MarkovChain roundTrip(MarkovChain chain) throws IOException {
+        return MarkovChain.read(ByteBuffer.wrap(bytes(chain)));
+    }
+
+    @Test
+    public void testGenerateToAppendable() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("the cat sat on the mat. the dog sat on the cat."), 1);
+        for (int length : new int[]{ 0, 1, 3, 4, 17, 1000 }) {
+            StringBuilder out = new StringBuilder();
+            assertEquals(length, chain.generate(new Random(11), out, length));
+            assertEquals(chain.generate(new Random(11), length), out.toString());
+        }
+    }
+
+    @Test
+    public void testGenerateToCharBuffer() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("the cat sat on the mat. the dog sat on the cat."), 1);
+        CharBuffer buffer = CharBuffer.allocate(256);
+        chain.generate(new Random(), buffer, buffer.capacity());
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void testGenerateWords() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("the cat sat on the mat. the dog sat on the cat."), 1);
+        StringBuilder out = new StringBuilder();
+        long written = chain.generateWords(new Random(), out, 250);
+        assertEquals(out.length(), written);
+        assertEquals(250, out.toString().split(" ").length);
+        assertTrue(!out.toString().endsWith(" "));
+        assertEquals(0, chain.generateWords(new Random(), new StringBuilder(), 0));
+    }
+
+    @Test
+    public void testGenerateHugeText() throws Exception {
+        MarkovChain chain = MarkovChain.train(singletonList("the cat sat on the mat. the dog sat on the cat."), 2);
+        long[] count = new long[1];
+        Appendable sink = new Appendable() {
+            public Appendable append(CharSequence csq) { count[0] += csq.length(); return this; }
+            public Appendable append(CharSequence csq, int start, int end) { count[0] += end - start; return this; }
+            public Appendable append(char c) { count[0]++; return this; }
+        };
+        long length = 3L * Integer.MAX_VALUE / 1000;
+        assertEquals(length, chain.generate(new Random(), sink, length));
+        assertEquals(length, count[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGenerateNegativeLength() throws Exception {
+        MarkovChain.train(singletonList("a b c"), 1).generate(new Random(), new StringBuilder(), -1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testGenerateNullAppendable() throws Exception {
+        MarkovChain.train(singletonList("a b c"), 1).generate(new Random(), null, 10);
+    }
+}
@@ -0,0 +1,185 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOf;
+import static net.andreinc.mockneat.types.enums.MarkovChainType.KAFKA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MarkovModelsTest {
+
+    private Path dir;
+    private Path corpus;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("mockneat-markov-test");
+        corpus = dir.resolve("corpus.txt");
+        Files.write(corpus, asList("the cat sat on the mat.", "the dog sat on the cat."));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        System.clearProperty(MarkovModels.SIDECAR_MODEL_PROPERTY);
+        for (int stateSize = 1; stateSize <= 2; stateSize++) {
+            Files.deleteIfExists(model(stateSize));
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(f -> f.toFile().delete());
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    private Path model(int stateSize) {
+        return MarkovModels.tempModelFor(corpus.toAbsolutePath(), stateSize);
+    }
+
+    private Path sidecar(int stateSize) {
+        return MarkovModels.sidecarModelFor(corpus.toAbsolutePath(), stateSize);
+    }
+
+    @Test
+    public void testExternalIsCached() throws Exception {
+        MarkovChain trained = MarkovModels.external(corpus.toString(), 1);
+        assertTrue(Files.isRegularFile(model(1)));
+        long written = Files.getLastModifiedTime(model(1)).toMillis();
+
+        MarkovChain cached = MarkovModels.external(corpus.toString(), 1);
+        assertEquals(written, Files.getLastModifiedTime(model(1)).toMillis());
+        assertEquals(trained.states(), cached.states());
+        assertEquals(trained.generate(new Random(5), 300), cached.generate(new Random(5), 300));
+    }
+
+    @Test
+    public void testStateSizesAreCachedSeparately() throws Exception {
+        assertEquals(1, MarkovModels.external(corpus.toString(), 1).getStateSize());
+        assertEquals(2, MarkovModels.external(corpus.toString(), 2).getStateSize());
+        assertTrue(Files.isRegularFile(model(1)));
+        assertTrue(Files.isRegularFile(model(2)));
+    }
+
+    @Test
+    public void testStaleCacheIsRebuilt() throws Exception {
+        MarkovModels.external(corpus.toString(), 1);
+        Files.write(corpus, asList("completely different words here", "and more different words"));
+        Files.setLastModifiedTime(corpus, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        MarkovChain chain = MarkovModels.external(corpus.toString(), 1);
+        String text = chain.generate(new Random(), 200).toLowerCase();
+        assertTrue(!text.contains("cat") && !text.contains("dog"));
+    }
+
+    @Test
+    public void testCorruptedCacheIsIgnored() throws Exception {
+        MarkovChain trained = MarkovModels.external(corpus.toString(), 1);
+        byte[] bytes = Files.readAllBytes(model(1));
+        Files.write(model(1), copyOf(bytes, bytes.length / 2));
+        MarkovChain chain = MarkovModels.external(corpus.toString(), 1);
+        assertEquals(trained.states(), chain.states());
+    }
+
+    @Test
+    public void testSidecarModelIsOptIn() throws Exception {
+        MarkovModels.external(corpus.toString(), 1);
+        assertFalse(Files.exists(sidecar(1)));
+        Files.delete(model(1));
+
+        System.setProperty(MarkovModels.SIDECAR_MODEL_PROPERTY, "true");
+        MarkovModels.external(corpus.toString(), 1);
+        assertTrue(Files.isRegularFile(sidecar(1)));
+        assertFalse(Files.exists(model(1)));
+    }
+
+    @Test
+    public void testInternal() throws Exception {
+        MarkovChain chain = MarkovModels.internal(KAFKA, 2);
+        assertEquals(2, chain.getStateSize());
+        // No precompiled model for this one, it's trained from the corpus
+        assertEquals(3, MarkovModels.internal(KAFKA, 3).getStateSize());
+    }
+
+    @Test
+    public void testRegistryIsShared() throws Exception {
+        assertTrue(MarkovModels.get(KAFKA, 2) == MarkovModels.get(KAFKA, 2));
+        assertFalse(MarkovModels.get(KAFKA, 2) == MarkovModels.get(KAFKA, 3));
+    }
+
+    @Test
+    public void testConcurrentFirstUseLoadsOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<MarkovChain>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return MarkovModels.get(corpus.toString(), 1);
+                }));
+            }
+            MarkovChain first = futures.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<MarkovChain> future : futures) {
+                assertTrue(future.get(30, TimeUnit.SECONDS) == first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRegistryReloadsChangedCorpus() throws Exception {
+        MarkovChain before = MarkovModels.get(corpus.toString(), 1);
+        assertTrue(before == MarkovModels.get(corpus.toString(), 1));
+        Files.write(corpus, asList("a bird flew over the house."));
+        MarkovChain after = MarkovModels.get(corpus.toString(), 1);
+        assertFalse(before == after);
+        assertTrue(after == MarkovModels.get(corpus.toString(), 1));
+    }
+
+    @Test(expected = IOException.class)
+    public void testGetMissingFile() throws Exception {
+        MarkovModels.get(dir.resolve("missing.txt").toString(), 2);
+    }
+
+    @Test(expected = IOException.class)
+    public void testExternalMissingFile() throws Exception {
+        MarkovModels.external(dir.resolve("missing.txt").toString(), 2);
+    }
+}
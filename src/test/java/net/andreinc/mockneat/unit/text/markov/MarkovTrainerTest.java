@@ -0,0 +1,104 @@
+package net.andreinc.mockneat.unit.text.markov;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+public class MarkovTrainerTest {
+
+    private static final String TEXT =
+            "The \"quick\" brown fox. Jumps over\r\n" +
+            "the lazy dog.\r" +
+            "a\n" +
+            "\n" +
+            "b c\n" +
+            "über naïve café, the quick fox jumps over the lazy café.\n" +
+            "  spaced   out  words  \n" +
+            "the end";
+
+    private ForkJoinPool pool;
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = new ForkJoinPool(4);
+        file = Files.createTempFile("mockneat-trainer", ".txt");
+        Files.write(file, TEXT.getBytes(UTF_8));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pool.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testChunkedTrainingMatchesSequential() throws Exception {
+        List<String> lines = new BufferedReader(new StringReader(TEXT)).lines().collect(toList());
+        for (int stateSize = 1; stateSize <= 4; stateSize++) {
+            MarkovChain expected = MarkovChain.train(lines, stateSize);
+            for (int chunkBytes : new int[]{ 1, 2, 7, 16, 64, 1 << 20 }) {
+                MarkovChain chain = MarkovTrainer.train(file, stateSize, pool, chunkBytes);
+                String msg = "stateSize=" + stateSize + ", chunkBytes=" + chunkBytes;
+                assertEquals(msg, expected.words(), chain.words());
+                assertEquals(msg, expected.states(), chain.states());
+                assertEquals(msg, expected.generate(new Random(1), 2000), chain.generate(new Random(1), 2000));
+            }
+        }
+    }
+
+    @Test
+    public void testPublicEntryPoint() throws Exception {
+        MarkovChain chain = MarkovChain.train(file, 2);
+        assertEquals(2, chain.getStateSize());
+        assertEquals(500, chain.generate(new Random(), 500).length());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyFile() throws Exception {
+        Files.write(file, new byte[0]);
+        MarkovTrainer.train(file, 2, pool, 16);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStateSize() throws Exception {
+        MarkovTrainer.train(file, 0, pool, 16);
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingFile() throws Exception {
+        MarkovTrainer.train(file.resolveSibling("missing-" + file.getFileName()), 2, pool, 16);
+    }
+}
@@ -209,4 +209,22 @@ public class FloatsTest {
                 }
         );
     }
+
+    @Test
+    public void testMapAndFilterFloat() throws Exception {
+        loop(Constants.FLOATS_CYCLES,
+                Constants.MOCKS,
+                r -> r.floats().range(0f, 10f).filterFloat(f -> f < 5f).mapFloat(f -> f * 2f).floatSupplier().getAsFloat(),
+                num -> assertTrue(0f <= num && num < 10f));
+    }
+
+    @Test
+    public void testArrayPrimitiveFromAlphabet() throws Exception {
+        float[] alphabet = { 1f, 2f, 3f };
+        float[] result = Constants.M.floats().from(alphabet).arrayPrimitive(100).val();
+        assertTrue(result.length == 100);
+        for (float f : result) {
+            assertTrue(f == 1f || f == 2f || f == 3f);
+        }
+    }
 }
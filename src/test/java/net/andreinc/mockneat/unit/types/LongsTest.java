@@ -151,4 +151,30 @@ public class LongsTest {
         long[] alphabet = new long[]{};
         M.longs().from(alphabet).val();
     }
+
+    @Test
+    public void testRangeLongSupplier() throws Exception {
+        loop(LONGS_CYCLES,
+                MOCKS,
+                r -> r.longs().range(100, 200).longSupplier().getAsLong(),
+                num -> assertTrue(num >= 100 && num < 200));
+    }
+
+    @Test
+    public void testMapAndFilterLong() throws Exception {
+        loop(LONGS_CYCLES,
+                MOCKS,
+                r -> r.longs().range(0, 100).filterLong(l -> l < 50).mapLong(l -> l + 1000).val(),
+                num -> assertTrue(num >= 1000 && num < 1050));
+    }
+
+    @Test
+    public void testLongStream() throws Exception {
+        M.longs()
+         .bound(10)
+         .longStream()
+         .val()
+         .limit(100)
+         .forEach(num -> assertTrue(num >= 0 && num < 10));
+    }
 }
@@ -0,0 +1,66 @@
+package net.andreinc.mockneat.utils;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+
+import net.andreinc.mockneat.types.enums.HashType;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static net.andreinc.mockneat.Constants.HASH_CYCLES;
+import static net.andreinc.mockneat.Constants.M;
+import static net.andreinc.mockneat.utils.LoopsUtils.loop;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DigestsTest {
+
+    @Test
+    public void testSameAsDigestUtils() throws Exception {
+        loop(HASH_CYCLES, () -> {
+            String str = M.strings().size(M.ints().range(1, 200).val()).val() + "ţăș™";
+            assertEquals(DigestUtils.md2Hex(str), Digests.hex(HashType.MD2, str));
+            assertEquals(DigestUtils.md5Hex(str), Digests.hex(HashType.MD5, str));
+            assertEquals(DigestUtils.sha1Hex(str), Digests.hex(HashType.SHA1, str));
+            assertEquals(DigestUtils.sha256Hex(str), Digests.hex(HashType.SHA256, str));
+            assertEquals(DigestUtils.sha384Hex(str), Digests.hex(HashType.SHA384, str));
+            assertEquals(DigestUtils.sha512Hex(str), Digests.hex(HashType.SHA512, str));
+        });
+    }
+
+    @Test
+    public void testBytesRange() throws Exception {
+        byte[] bytes = "xxabcxx".getBytes();
+        assertEquals(DigestUtils.md5Hex("abc"), Digests.hex(HashType.MD5, bytes, 2, 3));
+    }
+
+    @Test
+    public void testRandomHex() throws Exception {
+        Random random = new Random();
+        loop(HASH_CYCLES, () -> {
+            for (HashType type : HashType.values()) {
+                String hex = Digests.randomHex(type, random);
+                assertEquals(2 * type.getLength(), hex.length());
+                assertTrue(hex.matches("^[0-9a-f]+$"));
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static java.util.Arrays.asList;
+import static net.andreinc.mockneat.types.enums.DictType.DOMAIN_TOP_LEVEL_POPULAR;
+import static org.junit.Assert.assertTrue;
+
+public class FileManagerTest {
+
+    private static final int THREADS = 8;
+
+    private static final FileManager FM = FileManager.getInstance();
+
+    @Test
+    public void testConcurrentFirstUseLoadsExternalFileOnce() throws Exception {
+        Path file = Files.createTempFile("mockneat-fm", ".txt");
+        try {
+            Files.write(file, asList("a", "b", "c"));
+            List<List<String>> results = concurrently(() -> FM.getLines(file.toString()));
+            results.forEach(lines -> assertTrue(lines == results.get(0)));
+            assertTrue(results.get(0).equals(asList("a", "b", "c")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testConcurrentFirstUseLoadsDictionaryOnce() throws Exception {
+        List<List<String>> results = concurrently(() -> FM.getLines(DOMAIN_TOP_LEVEL_POPULAR));
+        results.forEach(lines -> assertTrue(lines == results.get(0)));
+        assertTrue(!results.get(0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingExternalFile() throws Exception {
+        FM.getLines("/this/file/does/not/exist/mockneat.txt");
+    }
+
+    @Test
+    public void testExternalFilesAreEvictedOverBudget() throws Exception {
+        Path first = Files.createTempFile("mockneat-fm", ".txt");
+        Path second = Files.createTempFile("mockneat-fm", ".txt");
+        long budget = FM.getExternalCacheStats().getBudget();
+        try {
+            Files.write(first, asList("a", "b", "c"));
+            Files.write(second, asList("d", "e", "f"));
+            FM.setExternalCacheBudget(1);
+            long evictions = FM.getExternalCacheStats().getEvictions();
+            assertTrue(FM.getLines(first.toString()).equals(asList("a", "b", "c")));
+            assertTrue(FM.getLines(second.toString()).equals(asList("d", "e", "f")));
+            assertTrue(FM.getExternalCacheStats().getEvictions() > evictions);
+            assertTrue(FM.getExternalCacheStats().getSize() == 1);
+            // Evicted files are loaded again on the next use
+            assertTrue(FM.getLines(first.toString()).equals(asList("a", "b", "c")));
+        } finally {
+            FM.setExternalCacheBudget(budget);
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    private static List<List<String>> concurrently(Callable<List<String>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return task.call();
+                }));
+            }
+            List<List<String>> results = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
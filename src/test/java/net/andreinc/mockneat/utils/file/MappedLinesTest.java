@@ -0,0 +1,155 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedLinesTest {
+
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = Files.createTempFile("mockneat-mapped", ".txt");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        System.clearProperty(MappedLines.SIDECAR_INDEX_PROPERTY);
+        Files.deleteIfExists(MappedLines.sidecarIndexFor(file.toAbsolutePath()));
+        Files.deleteIfExists(MappedLines.tempIndexFor(file.toAbsolutePath()));
+        Files.deleteIfExists(file);
+    }
+
+    private static List<String> readAll(MappedLines lines) {
+        List<String> result = new ArrayList<>();
+        for (long i = 0; i < lines.size(); i++) {
+            result.add(lines.get(i));
+        }
+        return result;
+    }
+
+    private void assertSameAsReader(String content, int segmentSize) throws Exception {
+        Files.write(file, content.getBytes(UTF_8));
+        List<String> expected = new BufferedReader(new StringReader(content)).lines().collect(toList());
+        assertTrue(readAll(MappedLines.open(file, segmentSize)).equals(expected));
+    }
+
+    @Test
+    public void testLinesMatchBufferedReader() throws Exception {
+        assertSameAsReader("alpha\nbeta\r\n\ngamma", 1 << 20);
+        assertSameAsReader("alpha\nbeta\n", 1 << 20);
+        assertSameAsReader("\n\n", 1 << 20);
+        assertSameAsReader("single", 1 << 20);
+    }
+
+    @Test
+    public void testUtf8() throws Exception {
+        assertSameAsReader("über\nnaïve\nγάμμα\n😀\n", 1 << 20);
+    }
+
+    @Test
+    public void testLinesAcrossSegments() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("line-").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        // Small odd sized segments so lines and index entries span segment boundaries
+        assertSameAsReader(content.toString(), 13);
+    }
+
+    @Test
+    public void testIndexIsPersistedAndReused() throws Exception {
+        Files.write(file, "a\nb\nc\n".getBytes(UTF_8));
+        MappedLines.open(file);
+        Path index = MappedLines.tempIndexFor(file.toAbsolutePath());
+        assertTrue(Files.exists(index));
+        assertFalse(Files.exists(MappedLines.sidecarIndexFor(file.toAbsolutePath())));
+        FileTime built = Files.getLastModifiedTime(index);
+        Files.setLastModifiedTime(index, FileTime.fromMillis(built.toMillis() - 10_000));
+        FileTime before = Files.getLastModifiedTime(index);
+        assertTrue(MappedLines.open(file).size() == 3);
+        assertTrue(Files.getLastModifiedTime(index).equals(before));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenFileChanges() throws Exception {
+        Files.write(file, "a\nb\nc\n".getBytes(UTF_8));
+        assertTrue(MappedLines.open(file).size() == 3);
+        Files.write(file, "a\nb\nc\nd\ne\n".getBytes(UTF_8));
+        MappedLines lines = MappedLines.open(file);
+        assertTrue(lines.size() == 5);
+        assertTrue(lines.get(4).equals("e"));
+    }
+
+    @Test
+    public void testSidecarIndexIsOptIn() throws Exception {
+        System.setProperty(MappedLines.SIDECAR_INDEX_PROPERTY, "true");
+        Files.write(file, "a\nb\n".getBytes(UTF_8));
+        MappedLines lines = MappedLines.open(file);
+        assertTrue(lines.indexPath().equals(MappedLines.sidecarIndexFor(file.toAbsolutePath())));
+        assertTrue(Files.exists(lines.indexPath()));
+    }
+
+    @Test
+    public void testStaleAfterFileChanges() throws Exception {
+        Files.write(file, "a\nb\nc\n".getBytes(UTF_8));
+        MappedLines lines = MappedLines.open(file);
+        assertFalse(lines.isStale());
+        Files.write(file, "a\n".getBytes(UTF_8));
+        assertTrue(lines.isStale());
+    }
+
+    @Test
+    public void testFileManagerRemapsChangedFiles() throws Exception {
+        Files.write(file, "a\nb\nc\n".getBytes(UTF_8));
+        FileManager fm = FileManager.getInstance();
+        assertTrue(fm.getMappedLines(file.toString()).size() == 3);
+        Files.write(file, "d\n".getBytes(UTF_8));
+        MappedLines lines = fm.getMappedLines(file.toString());
+        assertTrue(lines.size() == 1);
+        assertTrue(lines.get(0).equals("d"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyFile() throws Exception {
+        MappedLines.open(file);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() throws Exception {
+        Files.write(file, "a\nb\n".getBytes(UTF_8));
+        MappedLines.open(file).get(2);
+    }
+}
@@ -0,0 +1,179 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static net.andreinc.mockneat.types.enums.DictType.CITIES_CAPITALS;
+import static net.andreinc.mockneat.types.enums.DictType.LAST_NAME_AMERICAN;
+import static org.junit.Assert.assertTrue;
+
+public class PackedLinesTest {
+
+    private static PackedLines pack(String text) throws Exception {
+        return PackedLines.pack(new BufferedReader(new StringReader(text)));
+    }
+
+    @Test
+    public void testPackKeepsLines() throws Exception {
+        PackedLines lines = pack("alpha\n\nbeta\r\nγάμμα\n");
+        assertTrue(lines.size() == 4);
+        assertTrue(lines.equals(asList("alpha", "", "beta", "γάμμα")));
+    }
+
+    @Test
+    public void testPackEmpty() throws Exception {
+        assertTrue(pack("").isEmpty());
+    }
+
+    @Test
+    public void testPackGrowsPastInitialCapacity() throws Exception {
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String line = "line-" + i;
+            expected.add(line);
+            text.append(line).append('\n');
+        }
+        assertTrue(pack(text.toString()).equals(expected));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws Exception {
+        pack("a\nb").get(2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() throws Exception {
+        pack("a\nb").add("c");
+    }
+
+    @Test
+    public void testDictionariesArePacked() throws Exception {
+        List<String> lines = FileManager.getInstance().getLines(LAST_NAME_AMERICAN);
+        assertTrue(lines instanceof PackedLines);
+        assertTrue(lines.size() > 80000);
+    }
+
+    @Test
+    public void testWriteReadLatin1() throws Exception {
+        PackedLines lines = pack("alpha\n\nbeta\ncafé\n");
+        assertTrue(roundTrip(lines).equals(lines));
+    }
+
+    @Test
+    public void testWriteReadUtf16() throws Exception {
+        PackedLines lines = pack("γάμμα\n\uD83D\uDE00\nplain\n");
+        assertTrue(roundTrip(lines).equals(lines));
+    }
+
+    @Test
+    public void testWriteReadEmpty() throws Exception {
+        assertTrue(roundTrip(pack("")).isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadNotPacked() throws Exception {
+        PackedLines.read(ByteBuffer.wrap("hello world, not a dictionary".getBytes(UTF_8)));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadTruncated() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pack("alpha\nbeta\n").write(out);
+        byte[] bytes = out.toByteArray();
+        PackedLines.read(ByteBuffer.wrap(bytes, 0, bytes.length - 3).slice());
+    }
+
+    @Test
+    public void testOf() throws Exception {
+        PackedLines lines = PackedLines.of("a", "", "\u4e2d\u6587");
+        assertTrue(lines.equals(asList("a", "", "\u4e2d\u6587")));
+        assertTrue(roundTrip(lines).equals(lines));
+    }
+
+    @Test
+    public void testReadLeavesTheBufferAfterTheDictionary() throws Exception {
+        for (PackedLines lines : asList(PackedLines.of("latin", "words"), PackedLines.of("\u4e2d", "\u6587"))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            lines.write(out);
+            out.write(new byte[]{ 1, 2, 3, 4 });
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            assertTrue(PackedLines.read(buffer).equals(lines));
+            assertTrue(buffer.getInt() == 0x01020304);
+        }
+    }
+
+    @Test
+    public void testDictCompiler() throws Exception {
+        Path resources = Files.createTempDirectory("mockneat-res");
+        Path output = Files.createTempDirectory("mockneat-out");
+        try {
+            Files.createDirectories(resources.resolve("dicts/sub"));
+            Files.write(resources.resolve("dicts/sub/words"), asList("über", "naïve", "plain"), UTF_8);
+            assertTrue(DictCompiler.compile(resources, output, "dicts") == 1);
+            byte[] bytes = Files.readAllBytes(output.resolve("dicts/sub/words" + PackedLines.EXTENSION));
+            assertTrue(PackedLines.read(ByteBuffer.wrap(bytes)).equals(asList("über", "naïve", "plain")));
+        } finally {
+            deleteRecursively(output);
+            deleteRecursively(resources);
+        }
+    }
+
+    @Test
+    public void testDictionaryContentMatchesUtf8Text() throws Exception {
+        List<String> expected;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream("dicts/cities/cities-capitals"), UTF_8))) {
+            expected = reader.lines().collect(toList());
+        }
+        assertTrue(FileManager.getInstance().getLines(CITIES_CAPITALS).equals(expected));
+    }
+
+    private static PackedLines roundTrip(PackedLines lines) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        lines.write(out);
+        return PackedLines.read(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            List<Path> paths = walk.sorted(Comparator.reverseOrder()).collect(toList());
+            for (Path path : paths) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package net.andreinc.mockneat.utils.file;
+
+
+/**
+ * Copyright 2017, Andrei N. Ciobanu
+
+ Permission is hereby granted, free of charge, to any user obtaining a copy of this software and associated
+ documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ persons to whom the Software is furnished to do so, subject to the following conditions:
+
+ The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ OTHERWISE, ARISING FROM, FREE_TEXT OF OR PARAM CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS PARAM THE SOFTWARE.
+ */
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WeightedLruCacheTest {
+
+    // Values are their own weight
+    private static WeightedLruCache<String, Long> cache(long budget) {
+        return new WeightedLruCache<>(budget, Long::longValue);
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        assertTrue(cache.get("a", k -> 10L) == 10L);
+        assertTrue(cache.get("a", k -> { throw new AssertionError("Should be cached"); }) == 10L);
+        WeightedLruCache.Stats stats = cache.stats();
+        assertTrue(stats.getHits() == 1);
+        assertTrue(stats.getMisses() == 1);
+        assertTrue(stats.getEvictions() == 0);
+        assertTrue(stats.getSize() == 1);
+        assertTrue(stats.getWeight() == 10);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        cache.get("a", k -> 40L);
+        cache.get("b", k -> 40L);
+        cache.get("a", k -> 40L);
+        cache.get("c", k -> 40L);
+        WeightedLruCache.Stats stats = cache.stats();
+        assertTrue(stats.getEvictions() == 1);
+        assertTrue(stats.getWeight() == 80);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", k -> { loads.incrementAndGet(); return 40L; });
+        assertTrue(loads.get() == 0);
+        cache.get("b", k -> { loads.incrementAndGet(); return 40L; });
+        assertTrue(loads.get() == 1);
+    }
+
+    @Test
+    public void testOversizedValueIsKeptAlone() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        cache.get("a", k -> 10L);
+        cache.get("big", k -> 500L);
+        WeightedLruCache.Stats stats = cache.stats();
+        assertTrue(stats.getSize() == 1);
+        assertTrue(stats.getWeight() == 500);
+        cache.get("big", k -> { throw new AssertionError("Should be cached"); });
+    }
+
+    @Test
+    public void testShrinkingTheBudgetEvicts() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        cache.get("a", k -> 30L);
+        cache.get("b", k -> 30L);
+        cache.get("c", k -> 30L);
+        cache.setBudget(40);
+        WeightedLruCache.Stats stats = cache.stats();
+        assertTrue(stats.getEvictions() == 2);
+        assertTrue(stats.getWeight() == 30);
+        assertTrue(stats.getBudget() == 40);
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        try {
+            cache.get("a", k -> { throw new IllegalStateException(); });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertTrue(cache.get("a", k -> 5L) == 5L);
+        assertTrue(cache.stats().getMisses() == 2);
+        assertTrue(cache.stats().getWeight() == 5);
+    }
+
+    @Test
+    public void testConcurrentMissesLoadOnce() throws Exception {
+        WeightedLruCache<String, Long> cache = cache(100);
+        AtomicInteger loads = new AtomicInteger();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    return cache.get("a", k -> {
+                        loads.incrementAndGet();
+                        return 10L;
+                    });
+                }));
+            }
+            for (Future<Long> future : futures) {
+                assertTrue(future.get(30, TimeUnit.SECONDS) == 10L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(loads.get() == 1);
+        assertTrue(cache.stats().getMisses() == 1);
+        assertTrue(cache.stats().getHits() == threads - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBudget() throws Exception {
+        cache(-1);
+    }
+}